@@ -0,0 +1,46 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.async")
+@Data
+@Slf4j
+public class McpAsyncConfig {
+
+    /**
+     * When enabled, MCP calls run on virtual threads and controllers release the servlet
+     * thread while waiting. When disabled, calls complete on the request thread. Only
+     * controller dispatch is affected; timeouts, hedging and fan-out always run on
+     * {@code mcpWorkerExecutor}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Dispatches controller calls; runs them inline when async is disabled.
+     */
+    @Bean
+    public Executor mcpExecutor() {
+        if (!enabled) {
+            log.info("MCP async execution disabled, calls run on the request thread");
+            return Runnable::run;
+        }
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mcp-", 0).factory());
+    }
+
+    /**
+     * Virtual threads for work that must not run inline: timed and hedged attempts, bounded
+     * fan-out, pings and background writes.
+     */
+    @Bean
+    public Executor mcpWorkerExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mcp-worker-", 0).factory());
+    }
+}
@@ -0,0 +1,14 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.batch")
+@Data
+public class McpBatchConfig {
+    private int maxCalls = 50;
+    private int defaultParallelism = 6;
+    private int maxParallelism = 16;
+}
@@ -0,0 +1,32 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.cache")
+@Data
+public class McpCacheConfig {
+    private boolean enabled = true;
+
+    /**
+     * Entry limit applied to tools that don't set their own max-size
+     */
+    private int defaultMaxSize = 500;
+
+    /**
+     * Per-tool settings keyed by tool name; tools without an entry are not cached
+     */
+    private Map<String, ToolCache> tools = new LinkedHashMap<>();
+
+    @Data
+    public static class ToolCache {
+        private Duration ttl = Duration.ZERO;
+        private Integer maxSize;
+    }
+}
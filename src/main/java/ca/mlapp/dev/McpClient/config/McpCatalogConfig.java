@@ -0,0 +1,18 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.catalog")
+@Data
+public class McpCatalogConfig {
+
+    /**
+     * Safety net for servers that don't send list-changed notifications
+     */
+    private Duration maxAge = Duration.ofMinutes(10);
+}
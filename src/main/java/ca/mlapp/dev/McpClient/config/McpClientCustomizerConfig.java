@@ -0,0 +1,39 @@
+package ca.mlapp.dev.McpClient.config;
+
+import ca.mlapp.dev.McpClient.service.mcp.McpListChangedEvent;
+import ca.mlapp.dev.McpClient.service.mcp.McpResourceUpdatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.mcp.customizer.McpSyncClientCustomizer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Hooks MCP server notifications into the application. Notifications are re-published as
+ * Spring events so that the components consuming them don't have to depend on the clients
+ * being built here.
+ */
+@Configuration
+@Slf4j
+public class McpClientCustomizerConfig {
+
+    @Bean
+    public McpSyncClientCustomizer mcpNotificationCustomizer(ApplicationEventPublisher publisher) {
+        return (connectionName, spec) -> spec
+            .toolsChangeConsumer(tools -> publish(publisher, connectionName, McpListChangedEvent.Kind.TOOLS, tools))
+            .promptsChangeConsumer(prompts -> publish(publisher, connectionName, McpListChangedEvent.Kind.PROMPTS, prompts))
+            .resourcesChangeConsumer(resources -> publish(publisher, connectionName, McpListChangedEvent.Kind.RESOURCES, resources))
+            .resourcesUpdateConsumer(contents -> {
+                log.debug("MCP connection {} pushed {} updated resource content(s)", connectionName, contents.size());
+                publisher.publishEvent(new McpResourceUpdatedEvent(connectionName, contents));
+            });
+    }
+
+    private static void publish(ApplicationEventPublisher publisher, String connectionName,
+                                McpListChangedEvent.Kind kind, List<?> items) {
+        log.info("MCP connection {} reported a {} list change ({} items)", connectionName, kind, items.size());
+        publisher.publishEvent(new McpListChangedEvent(connectionName, kind, items));
+    }
+}
@@ -0,0 +1,39 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.credits")
+@Data
+public class McpCreditConfig {
+    private boolean enabled = true;
+    private int perMinuteLimit = 8;
+
+    /**
+     * Starting daily limit; replaced by the server's figure on each get-api-usage sync
+     */
+    private int dailyLimit = 800;
+
+    /**
+     * Share of the daily budget that background work may not touch (0..1)
+     */
+    private double backgroundReserve = 0.2;
+
+    /**
+     * How long an interactive call may wait for a per-minute credit before falling back
+     */
+    private Duration maxWait = Duration.ofSeconds(10);
+
+    private Duration resyncInterval = Duration.ofMinutes(5);
+
+    /**
+     * Credits charged per call, keyed by tool name; tools without an entry are free
+     */
+    private Map<String, Integer> costs = new LinkedHashMap<>();
+}
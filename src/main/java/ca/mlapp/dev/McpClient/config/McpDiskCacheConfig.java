@@ -0,0 +1,38 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.disk-cache")
+@Data
+public class McpDiskCacheConfig {
+
+    /**
+     * Persist quote snapshots and price history to memory-mapped files and serve them while
+     * still fresh, including right after a restart
+     */
+    private boolean enabled = true;
+
+    private String directory = "data/market-cache";
+
+    // Market hours the staleness policy is based on (weekends are closed; holidays are not modelled)
+
+    private String marketZone = "America/New_York";
+    private String marketOpen = "09:30";
+    private String marketClose = "16:00";
+
+    /**
+     * How long a quote stays fresh while the market is open
+     */
+    private Duration quoteTtlOpen = Duration.ofMinutes(1);
+
+    /**
+     * How long daily (or longer) bars stay fresh while the market is open; intraday bars
+     * stay fresh for one interval
+     */
+    private Duration dailyTtlOpen = Duration.ofMinutes(15);
+}
@@ -0,0 +1,43 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.health")
+@Data
+public class McpHealthConfig {
+
+    /**
+     * How often every MCP connection is pinged in the background
+     */
+    private Duration pingInterval = Duration.ofSeconds(15);
+
+    /**
+     * Longest a ping may take before it counts as failed
+     */
+    private Duration pingTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Recent pings kept per connection for latency and error statistics
+     */
+    private int window = 20;
+
+    /**
+     * Consecutive failed pings after which a connection is reported down
+     */
+    private int unhealthyAfter = 3;
+
+    /**
+     * A connection without a successful ping for this long is reported down
+     */
+    private Duration staleAfter = Duration.ofMinutes(1);
+
+    /**
+     * Report the instance as not ready while no MCP connection is up
+     */
+    private boolean readinessRequiresMcp = true;
+}
@@ -0,0 +1,27 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.http")
+@Data
+public class McpHttpCacheConfig {
+
+    /**
+     * Tag market and portfolio GET responses with a content-hash ETag and answer a matching
+     * If-None-Match with 304 Not Modified
+     */
+    private boolean etags = true;
+
+    /**
+     * Cache-Control max-age by request path pattern; the longest matching pattern wins and
+     * paths matching none (or a zero age) are sent with no-cache, so clients revalidate
+     */
+    private Map<String, Duration> maxAge = new LinkedHashMap<>();
+}
@@ -0,0 +1,28 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.indicators")
+@Data
+public class McpIndicatorConfig {
+
+    /**
+     * Compute indicators locally from one historical series instead of calling the
+     * get-sma/get-ema/get-rsi/get-macd/get-bbands tools
+     */
+    private boolean local = true;
+
+    /**
+     * Points of history fetched per symbol and interval; shared by every indicator so one
+     * cached fetch serves all of them
+     */
+    private int outputSize = 300;
+
+    /**
+     * Symbol/interval pairs whose streaming indicator state is kept in memory
+     */
+    private int maxTrackedSeries = 256;
+}
@@ -0,0 +1,24 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.passthrough")
+@Data
+public class McpPassthroughConfig {
+    private boolean enabled = true;
+
+    /**
+     * Tools whose JSON results are returned to REST clients verbatim
+     */
+    private Set<String> tools = new LinkedHashSet<>();
+
+    public boolean appliesTo(String toolName) {
+        return enabled && tools.contains(toolName);
+    }
+}
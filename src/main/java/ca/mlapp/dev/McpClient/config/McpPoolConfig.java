@@ -0,0 +1,40 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.pool")
+@Data
+public class McpPoolConfig {
+
+    public enum Strategy {
+        LEAST_OUTSTANDING,
+        LATENCY_WEIGHTED
+    }
+
+    private Strategy strategy = Strategy.LEAST_OUTSTANDING;
+
+    /**
+     * Consecutive transport failures before a connection is ejected from the pool
+     */
+    private int failureThreshold = 3;
+
+    /**
+     * Base ejection time; repeated ejections of the same connection back off linearly
+     */
+    private Duration ejectionDuration = Duration.ofSeconds(30);
+
+    /**
+     * Upper bound on the ejection back-off multiplier
+     */
+    private int maxEjectionMultiplier = 8;
+
+    /**
+     * Weight of the newest sample in the latency moving average (0..1)
+     */
+    private double latencyDecay = 0.2;
+}
@@ -0,0 +1,28 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.portfolio")
+@Data
+public class McpPortfolioConfig {
+
+    /**
+     * Value the portfolio locally from the listed positions and the latest realtime quotes
+     * instead of calling the calculate-portfolio-value tool
+     */
+    private boolean localValuation = true;
+
+    /**
+     * Search the cached list-all-stocks result in-process instead of calling the search-stocks
+     * tool; the tool is still used while no fresh position list is cached
+     */
+    private boolean localSearch = true;
+
+    /**
+     * Compiled search patterns kept for reuse
+     */
+    private int patternCacheSize = 256;
+}
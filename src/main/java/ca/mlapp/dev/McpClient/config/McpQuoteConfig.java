@@ -0,0 +1,21 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.quotes")
+@Data
+public class McpQuoteConfig {
+
+    /**
+     * Quote calls in flight at once for a bulk request
+     */
+    private int bulkConcurrency = 8;
+
+    /**
+     * Distinct symbols accepted in one bulk request
+     */
+    private int maxSymbols = 100;
+}
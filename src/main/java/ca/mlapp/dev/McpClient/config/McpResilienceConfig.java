@@ -0,0 +1,74 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.resilience")
+@Data
+public class McpResilienceConfig {
+    private boolean enabled = true;
+
+    // Circuit breaker (per tool)
+
+    /**
+     * Number of most recent calls the failure rate is computed over
+     */
+    private int breakerWindow = 20;
+
+    /**
+     * Calls needed in the window before the breaker may open
+     */
+    private int breakerMinimumCalls = 10;
+
+    /**
+     * Failure rate (0..1) at which the breaker opens
+     */
+    private double breakerFailureRate = 0.5;
+
+    /**
+     * How long an open breaker rejects calls before letting a probe through
+     */
+    private Duration breakerOpenDuration = Duration.ofSeconds(30);
+
+    // Adaptive timeouts
+
+    /**
+     * Latency percentile (0..1) the timeout is derived from
+     */
+    private double timeoutPercentile = 0.99;
+
+    private double timeoutMultiplier = 3.0;
+    private Duration minTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Timeout used until enough samples exist, and the upper bound afterwards
+     */
+    private Duration maxTimeout = Duration.ofSeconds(20);
+
+    /**
+     * Successful calls needed before latency percentiles are trusted
+     */
+    private int minimumSamples = 20;
+
+    // Hedged requests
+
+    private boolean hedgeEnabled = true;
+
+    /**
+     * Idempotent read tools that may be sent a second time when the first attempt is slow
+     */
+    private Set<String> hedgeTools = new LinkedHashSet<>();
+
+    /**
+     * Latency percentile (0..1) after which the hedge is sent
+     */
+    private double hedgePercentile = 0.95;
+
+    private Duration minHedgeDelay = Duration.ofMillis(50);
+}
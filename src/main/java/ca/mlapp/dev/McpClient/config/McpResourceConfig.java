@@ -0,0 +1,35 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.resources")
+@Data
+public class McpResourceConfig {
+
+    /**
+     * Subscribe to resources on first read and serve later reads from a local copy kept
+     * current by update notifications
+     */
+    private boolean subscribe = true;
+
+    /**
+     * Most resources mirrored at once; the least recently read is unsubscribed beyond this
+     */
+    private int maxSubscriptions = 200;
+
+    /**
+     * Safety net for missed update notifications; an older local copy is read again
+     */
+    private Duration maxAge = Duration.ofMinutes(5);
+
+    /**
+     * How long a read waits for its connections to confirm a subscription; a connection that
+     * doesn't answer in time is treated as not subscribed
+     */
+    private Duration subscribeTimeout = Duration.ofSeconds(5);
+}
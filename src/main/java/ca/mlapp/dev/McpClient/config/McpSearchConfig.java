@@ -0,0 +1,49 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.search")
+@Data
+public class McpSearchConfig {
+
+    /**
+     * Answer symbol searches from a local index learned from earlier search-stock-symbols
+     * results, calling the tool only on a miss
+     */
+    private boolean localIndex = true;
+
+    /**
+     * Symbol or name prefix matches needed to answer a query that doesn't extend an already
+     * fetched one; fuzzy matches don't count
+     */
+    private int minLocalResults = 5;
+
+    /**
+     * Results returned per query
+     */
+    private int maxResults = 30;
+
+    /**
+     * Instruments held by the index; new ones are not learned beyond this
+     */
+    private int maxEntries = 50_000;
+
+    /**
+     * Queries remembered as fetched upstream, so longer queries starting with them stay local
+     */
+    private int maxFetchedQueries = 2_000;
+
+    /**
+     * Most results search-stock-symbols returns for one query. A result this long may have been
+     * cut off, so longer queries starting with that one still go upstream
+     */
+    private int upstreamLimit = 30;
+
+    /**
+     * Share of a query's trigrams a name or symbol must contain to count as a fuzzy match
+     */
+    private double fuzzyThreshold = 0.5;
+}
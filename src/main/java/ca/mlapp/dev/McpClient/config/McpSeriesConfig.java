@@ -0,0 +1,24 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.series")
+@Data
+public class McpSeriesConfig {
+    private boolean enabled = true;
+
+    /**
+     * Keep price columns in direct buffers outside the Java heap
+     */
+    private boolean offHeap = false;
+
+    /**
+     * Symbol/interval series held at once; the least recently used is dropped beyond this
+     */
+    private int maxSeries = 500;
+
+    private int initialCapacity = 256;
+}
@@ -0,0 +1,30 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.stream")
+@Data
+public class McpStreamConfig {
+    private boolean enabled = true;
+
+    /**
+     * How often portfolio, value and API usage are polled while anyone is connected
+     */
+    private Duration pollInterval = Duration.ofSeconds(15);
+
+    /**
+     * Realtime quotes for the portfolio's symbols cost one credit each, so they are polled
+     * less often; zero disables quote updates
+     */
+    private Duration quoteInterval = Duration.ofMinutes(2);
+
+    /**
+     * Server-side lifetime of a stream; browsers reconnect automatically when it ends
+     */
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+}
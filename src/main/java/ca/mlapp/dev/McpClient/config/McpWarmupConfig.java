@@ -0,0 +1,35 @@
+package ca.mlapp.dev.McpClient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mcp.warmup")
+@Data
+public class McpWarmupConfig {
+
+    /**
+     * Warm connections, the capability catalog, positions, quotes and JSON paths before the
+     * application reports itself ready
+     */
+    private boolean enabled = true;
+
+    /**
+     * Longest the warm-up may hold back readiness; whatever hasn't finished by then carries on
+     * in the background
+     */
+    private Duration deadline = Duration.ofSeconds(20);
+
+    /**
+     * Fetch realtime quotes for the held symbols during warm-up
+     */
+    private boolean prefetchQuotes = true;
+
+    /**
+     * Decode/encode rounds run over sample payloads so the JSON hot paths are compiled
+     */
+    private int jsonIterations = 500;
+}
@@ -0,0 +1,63 @@
+package ca.mlapp.dev.McpClient.controller;
+
+import ca.mlapp.dev.McpClient.dto.request.BatchRequest;
+import ca.mlapp.dev.McpClient.dto.response.BatchItemResult;
+import ca.mlapp.dev.McpClient.service.BatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/batch")
+@RequiredArgsConstructor
+@Slf4j
+public class BatchController {
+
+    private final BatchService batchService;
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<List<BatchItemResult>>> executeBatch(@RequestBody BatchRequest request) {
+        log.info("POST /api/batch - {} calls", request.getCalls() != null ? request.getCalls().size() : 0);
+        return batchService.execute(request)
+            .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Streams one JSON line per call (newline-delimited JSON) as soon as that call finishes.
+     */
+    @PostMapping("/stream")
+    public ResponseEntity<ResponseBodyEmitter> streamBatch(@RequestBody BatchRequest request) {
+        log.info("POST /api/batch/stream - {} calls", request.getCalls() != null ? request.getCalls().size() : 0);
+        List<CompletableFuture<BatchItemResult>> futures = batchService.start(request);
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        CompletableFuture<?>[] sent = futures.stream()
+            .map(future -> future.thenAccept(item -> send(emitter, item)))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(sent)
+            .whenComplete((ignored, e) -> emitter.complete());
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(emitter);
+    }
+
+    private static void send(ResponseBodyEmitter emitter, BatchItemResult item) {
+        // Results finish on different threads; keep each JSON line intact
+        synchronized (emitter) {
+            try {
+                emitter.send(item, MediaType.APPLICATION_JSON);
+                emitter.send("\n", MediaType.TEXT_PLAIN);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Batch stream client went away: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package ca.mlapp.dev.McpClient.controller;
+
+import ca.mlapp.dev.McpClient.config.McpHttpCacheConfig;
+import ca.mlapp.dev.McpClient.service.mcp.ToolPayload;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Conditional GET for the market and portfolio endpoints. Each JSON body is tagged with a
+ * strong ETag hashed from its serialized form; passthrough tool payloads are hashed from their
+ * text as-is, so they are never serialized just to be tagged. A request whose If-None-Match
+ * matches gets 304 with no body. Cache-Control is set per path from {@link McpHttpCacheConfig}.
+ */
+@RestControllerAdvice(assignableTypes = {MarketDataController.class, PortfolioController.class})
+@RequiredArgsConstructor
+@Slf4j
+public class ConditionalGetAdvice implements ResponseBodyAdvice<Object> {
+
+    private final McpHttpCacheConfig config;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return config.isEtags() && AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || request.getMethod() != HttpMethod.GET || !isOk(response)) {
+            return body;
+        }
+
+        String json;
+        Object writable;
+        if (body instanceof ToolPayload payload && payload.isJson()) {
+            json = payload.getText();
+            writable = body;
+        } else {
+            try {
+                json = objectMapper.writeValueAsString(body);
+            } catch (JsonProcessingException e) {
+                log.debug("Could not tag response for {}: {}", request.getURI().getPath(), e.getMessage());
+                return body;
+            }
+            // Written as-is, so the body is serialized once whether or not it is modified
+            writable = new SerializedJson(json);
+        }
+
+        String etag = "\"" + hash(json) + "\"";
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(cacheControl(request.getURI().getPath()));
+
+        if (matches(request.getHeaders().getIfNoneMatch(), etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return null;
+        }
+        return writable;
+    }
+
+    private String cacheControl(String path) {
+        String bestPattern = null;
+        Duration maxAge = Duration.ZERO;
+        for (Map.Entry<String, Duration> entry : config.getMaxAge().entrySet()) {
+            String pattern = entry.getKey();
+            if (pathMatcher.match(pattern, path) && (bestPattern == null || pattern.length() > bestPattern.length())) {
+                bestPattern = pattern;
+                maxAge = entry.getValue();
+            }
+        }
+        return maxAge == null || maxAge.isZero() ? "no-cache" : "private, max-age=" + maxAge.toSeconds();
+    }
+
+    /**
+     * Weak comparison, as RFC 9110 prescribes for If-None-Match; the container may weaken the
+     * tag when it compresses the response.
+     */
+    private static boolean matches(Iterable<String> ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOk(ServerHttpResponse response) {
+        return !(response instanceof ServletServerHttpResponse servletResponse)
+            || servletResponse.getServletResponse().getStatus() == HttpStatus.OK.value();
+    }
+
+    private static String hash(String json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * A body that has already been serialized to JSON.
+     */
+    private record SerializedJson(String json) implements JsonSerializable {
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeRawValue(json);
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers,
+                                      TypeSerializer typeSer) throws IOException {
+            serialize(gen, serializers);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package ca.mlapp.dev.McpClient.controller;
+
+import ca.mlapp.dev.McpClient.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * Positions, portfolio value, API usage and health in one response.
+     */
+    @GetMapping("/dashboard")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> getDashboard() {
+        log.info("GET /api/dashboard");
+        return dashboardService.dashboard()
+            .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Health plus the tool, prompt and resource listings in one response.
+     */
+    @GetMapping("/system-info")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> getSystemInfo() {
+        log.info("GET /api/system-info");
+        return dashboardService.systemInfo()
+            .thenApply(ResponseEntity::ok);
+    }
+}
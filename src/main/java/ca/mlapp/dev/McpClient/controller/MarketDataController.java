@@ -1,11 +1,21 @@
 package ca.mlapp.dev.McpClient.controller;
 
-import ca.mlapp.dev.McpClient.service.McpClientService;
+import ca.mlapp.dev.McpClient.dto.response.BulkQuoteResponse;
+import ca.mlapp.dev.McpClient.service.McpAsyncClientService;
+import ca.mlapp.dev.McpClient.dto.twelvedata.TimeSeriesResponseDTO;
+import ca.mlapp.dev.McpClient.service.mcp.CreditBudget;
+import ca.mlapp.dev.McpClient.service.series.PriceSeriesStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/market")
 @RequiredArgsConstructor
@@ -13,104 +23,136 @@ import org.springframework.web.bind.annotation.*;
 public class
 MarketDataController {
 
-    private final McpClientService mcpService;
+    private final McpAsyncClientService mcpService;
+    private final CreditBudget creditBudget;
+    private final PriceSeriesStore priceSeriesStore;
 
     @GetMapping("/quote/{symbol}")
-    public ResponseEntity<Object> getQuote(@PathVariable String symbol) {
+    public CompletableFuture<ResponseEntity<Object>> getQuote(@PathVariable String symbol) {
         log.info("GET /api/market/quote/{}", symbol);
-        Object result = mcpService.fetchRealtimeQuote(symbol);
-        return ResponseEntity.ok(result);
+        return mcpService.fetchRealtimeQuote(symbol)
+            .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/quotes")
+    public CompletableFuture<ResponseEntity<BulkQuoteResponse>> getQuotes(@RequestParam List<String> symbols) {
+        log.info("GET /api/market/quotes?symbols={}", symbols);
+        return mcpService.fetchRealtimeQuotes(symbols)
+            .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/historical/{symbol}")
-    public ResponseEntity<Object> getHistoricalData(
+    public CompletableFuture<ResponseEntity<Object>> getHistoricalData(
             @PathVariable String symbol,
             @RequestParam String interval,
             @RequestParam(required = false) Integer outputSize) {
         log.info("GET /api/market/historical/{}?interval={}&outputSize={}", symbol, interval, outputSize);
-        Object result = mcpService.getHistoricalData(symbol, interval, outputSize);
-        return ResponseEntity.ok(result);
+        return mcpService.getHistoricalData(symbol, interval, outputSize)
+            .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Bars already held locally for the series, between two dates (inclusive); never calls the
+     * MCP server.
+     */
+    @GetMapping("/historical/{symbol}/range")
+    public ResponseEntity<TimeSeriesResponseDTO> getHistoricalRange(
+            @PathVariable String symbol,
+            @RequestParam String interval,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("GET /api/market/historical/{}/range?interval={}&from={}&to={}", symbol, interval, from, to);
+        long fromEpoch = from != null ? from.toEpochDay() * 86_400L : Long.MIN_VALUE;
+        long toEpoch = to != null ? to.toEpochDay() * 86_400L + 86_399L : Long.MAX_VALUE;
+        TimeSeriesResponseDTO range = priceSeriesStore.range(symbol, interval, fromEpoch, toEpoch);
+        return range != null ? ResponseEntity.ok(range) : ResponseEntity.notFound().build();
     }
 
     @PostMapping("/refresh-prices")
-    public ResponseEntity<Object> refreshAllPrices() {
+    public CompletableFuture<ResponseEntity<Object>> refreshAllPrices() {
         log.info("POST /api/market/refresh-prices");
-        Object result = mcpService.refreshAllPrices();
-        return ResponseEntity.ok(result);
+        return mcpService.refreshAllPrices()
+            .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> searchSymbols(@RequestParam String query) {
+    public CompletableFuture<ResponseEntity<Object>> searchSymbols(@RequestParam String query) {
         log.info("GET /api/market/search?query={}", query);
-        Object result = mcpService.searchStockSymbols(query);
-        return ResponseEntity.ok(result);
+        return mcpService.searchStockSymbols(query)
+            .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/api-usage")
-    public ResponseEntity<Object> getApiUsage() {
+    public CompletableFuture<ResponseEntity<Object>> getApiUsage() {
         log.info("GET /api/market/api-usage");
-        Object result = mcpService.getApiUsage();
-        return ResponseEntity.ok(result);
+        return mcpService.getApiUsage()
+            .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/credit-budget")
+    public ResponseEntity<Map<String, Object>> getCreditBudget() {
+        log.info("GET /api/market/credit-budget");
+        return ResponseEntity.ok(creditBudget.snapshot());
     }
 
     // ==================== Technical Indicator Endpoints ====================
 
     @GetMapping("/indicators/sma/{symbol}")
-    public ResponseEntity<Object> getSMA(
+    public CompletableFuture<ResponseEntity<Object>> getSMA(
             @PathVariable String symbol,
             @RequestParam(required = false) Integer timePeriod,
             @RequestParam(required = false) String interval,
             @RequestParam(required = false) String seriesType) {
         log.info("GET /api/market/indicators/sma/{} with timePeriod={}, interval={}, seriesType={}",
                 symbol, timePeriod, interval, seriesType);
-        Object result = mcpService.getSMA(symbol, timePeriod, interval, seriesType);
-        return ResponseEntity.ok(result);
+        return mcpService.getSMA(symbol, timePeriod, interval, seriesType)
+            .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/indicators/ema/{symbol}")
-    public ResponseEntity<Object> getEMA(
+    public CompletableFuture<ResponseEntity<Object>> getEMA(
             @PathVariable String symbol,
             @RequestParam(required = false) Integer timePeriod,
             @RequestParam(required = false) String interval,
             @RequestParam(required = false) String seriesType) {
         log.info("GET /api/market/indicators/ema/{} with timePeriod={}, interval={}, seriesType={}",
                 symbol, timePeriod, interval, seriesType);
-        Object result = mcpService.getEMA(symbol, timePeriod, interval, seriesType);
-        return ResponseEntity.ok(result);
+        return mcpService.getEMA(symbol, timePeriod, interval, seriesType)
+            .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/indicators/rsi/{symbol}")
-    public ResponseEntity<Object> getRSI(
+    public CompletableFuture<ResponseEntity<Object>> getRSI(
             @PathVariable String symbol,
             @RequestParam(required = false) Integer timePeriod,
             @RequestParam(required = false) String interval,
             @RequestParam(required = false) String seriesType) {
         log.info("GET /api/market/indicators/rsi/{} with timePeriod={}, interval={}, seriesType={}",
                 symbol, timePeriod, interval, seriesType);
-        Object result = mcpService.getRSI(symbol, timePeriod, interval, seriesType);
-        return ResponseEntity.ok(result);
+        return mcpService.getRSI(symbol, timePeriod, interval, seriesType)
+            .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/indicators/macd/{symbol}")
-    public ResponseEntity<Object> getMACD(
+    public CompletableFuture<ResponseEntity<Object>> getMACD(
             @PathVariable String symbol,
             @RequestParam(required = false) String interval,
             @RequestParam(required = false) String seriesType) {
         log.info("GET /api/market/indicators/macd/{} with interval={}, seriesType={}",
                 symbol, interval, seriesType);
-        Object result = mcpService.getMACD(symbol, interval, seriesType);
-        return ResponseEntity.ok(result);
+        return mcpService.getMACD(symbol, interval, seriesType)
+            .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/indicators/bbands/{symbol}")
-    public ResponseEntity<Object> getBollingerBands(
+    public CompletableFuture<ResponseEntity<Object>> getBollingerBands(
             @PathVariable String symbol,
             @RequestParam(required = false) Integer timePeriod,
             @RequestParam(required = false) String interval,
             @RequestParam(required = false) String seriesType) {
         log.info("GET /api/market/indicators/bbands/{} with timePeriod={}, interval={}, seriesType={}",
                 symbol, timePeriod, interval, seriesType);
-        Object result = mcpService.getBollingerBands(symbol, timePeriod, interval, seriesType);
-        return ResponseEntity.ok(result);
+        return mcpService.getBollingerBands(symbol, timePeriod, interval, seriesType)
+            .thenApply(ResponseEntity::ok);
     }
 }
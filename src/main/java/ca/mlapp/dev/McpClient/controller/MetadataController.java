@@ -1,16 +1,25 @@
 package ca.mlapp.dev.McpClient.controller;
 
+import ca.mlapp.dev.McpClient.config.McpHealthConfig;
 import ca.mlapp.dev.McpClient.dto.response.HealthResponse;
-import ca.mlapp.dev.McpClient.service.McpClientService;
+import ca.mlapp.dev.McpClient.service.McpAsyncClientService;
+import ca.mlapp.dev.McpClient.service.StartupWarmup;
+import ca.mlapp.dev.McpClient.service.mcp.McpHealthMonitor;
 import io.modelcontextprotocol.spec.McpSchema;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/metadata")
@@ -18,57 +27,79 @@ import java.util.List;
 @Slf4j
 public class MetadataController {
 
-    private final McpClientService mcpService;
+    private final McpAsyncClientService mcpService;
+    private final ApplicationAvailability availability;
+    private final StartupWarmup warmup;
+    private final McpHealthMonitor healthMonitor;
+    private final McpHealthConfig healthConfig;
 
     @GetMapping("/tools")
-    public ResponseEntity<List<McpSchema.Tool>> listTools() {
+    public CompletableFuture<ResponseEntity<List<McpSchema.Tool>>> listTools() {
         log.info("GET /api/metadata/tools");
-        List<McpSchema.Tool> tools = mcpService.listAllTools();
-        return ResponseEntity.ok(tools);
+        return mcpService.listAllTools()
+            .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/prompts")
-    public ResponseEntity<List<McpSchema.Prompt>> listPrompts() {
+    public CompletableFuture<ResponseEntity<List<McpSchema.Prompt>>> listPrompts() {
         log.info("GET /api/metadata/prompts");
-        List<McpSchema.Prompt> prompts = mcpService.listAllPrompts();
-        return ResponseEntity.ok(prompts);
+        return mcpService.listAllPrompts()
+            .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/resources")
-    public ResponseEntity<List<McpSchema.Resource>> listResources() {
+    public CompletableFuture<ResponseEntity<List<McpSchema.Resource>>> listResources() {
         log.info("GET /api/metadata/resources");
-        List<McpSchema.Resource> resources = mcpService.listAllResources();
-        return ResponseEntity.ok(resources);
+        return mcpService.listAllResources()
+            .thenApply(ResponseEntity::ok);
     }
 
+    /**
+     * Last known MCP health from the background monitor; never calls the server.
+     */
     @GetMapping("/health")
     public ResponseEntity<HealthResponse> checkHealth() {
         log.info("GET /api/metadata/health");
-        try {
-            List<McpSchema.Tool> tools = mcpService.listAllTools();
-            List<McpSchema.Prompt> prompts = mcpService.listAllPrompts();
-            List<McpSchema.Resource> resources = mcpService.listAllResources();
+        HealthResponse health = healthMonitor.health();
+        return ResponseEntity.status(healthMonitor.isUp() ? 200 : 503).body(health);
+    }
+
+    /**
+     * Per-connection ping latency and error statistics.
+     */
+    @GetMapping("/health/connections")
+    public ResponseEntity<Map<String, Object>> checkConnections() {
+        log.info("GET /api/metadata/health/connections");
+        return ResponseEntity.ok(healthMonitor.details());
+    }
+
+    /**
+     * 200 while the application is live; independent of the MCP server, since restarting this
+     * instance would not bring the server back.
+     */
+    @GetMapping("/liveness")
+    public ResponseEntity<Map<String, Object>> checkLiveness() {
+        log.debug("GET /api/metadata/liveness");
+        LivenessState liveness = availability.getLivenessState();
+        return ResponseEntity.status(liveness == LivenessState.CORRECT ? 200 : 503)
+            .body(Map.of("status", liveness.name()));
+    }
 
-            HealthResponse health = new HealthResponse(
-                "UP",
-                "MCP Client is connected and operational",
-                true,
-                tools.size(),
-                prompts.size(),
-                resources.size()
-            );
-            return ResponseEntity.ok(health);
-        } catch (Exception e) {
-            log.error("Health check failed", e);
-            HealthResponse health = new HealthResponse(
-                "DOWN",
-                "MCP Client connection failed: " + e.getMessage(),
-                false,
-                0,
-                0,
-                0
-            );
-            return ResponseEntity.status(503).body(health);
-        }
+    /**
+     * 200 once the instance accepts traffic and (unless configured otherwise) an MCP connection
+     * is up; 503 while it is still warming up or the MCP server is unreachable.
+     */
+    @GetMapping("/readiness")
+    public ResponseEntity<Map<String, Object>> checkReadiness() {
+        log.debug("GET /api/metadata/readiness");
+        ReadinessState readiness = availability.getReadinessState();
+        boolean ready = readiness == ReadinessState.ACCEPTING_TRAFFIC
+            && (!healthConfig.isReadinessRequiresMcp() || healthMonitor.isUp());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", ready ? "READY" : "NOT_READY");
+        body.put("readiness", readiness.name());
+        body.put("mcp", healthMonitor.status().name());
+        body.put("warmup", warmup.snapshot());
+        return ResponseEntity.status(ready ? 200 : 503).body(body);
     }
 }
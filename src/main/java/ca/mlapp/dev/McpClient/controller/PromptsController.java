@@ -7,7 +7,7 @@ import ca.mlapp.dev.McpClient.dto.response.PromptResult;
 import ca.mlapp.dev.McpClient.dto.response.SavePromptResponse;
 import ca.mlapp.dev.McpClient.entity.PromptHistory;
 import ca.mlapp.dev.McpClient.exception.LlmException;
-import ca.mlapp.dev.McpClient.service.McpClientService;
+import ca.mlapp.dev.McpClient.service.McpAsyncClientService;
 import ca.mlapp.dev.McpClient.service.PromptHistoryService;
 import ca.mlapp.dev.McpClient.service.llm.LlmService;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/prompts")
@@ -29,43 +30,39 @@ import java.util.Map;
 @Slf4j
 public class PromptsController {
 
-    private final McpClientService mcpService;
+    private final McpAsyncClientService mcpService;
     private final LlmService llmService;
     private final PromptHistoryService promptHistoryService;
 
     @GetMapping("/stock-analysis/{symbol}")
-    public ResponseEntity<PromptResult> getStockAnalysis(@PathVariable String symbol) {
+    public CompletableFuture<ResponseEntity<PromptResult>> getStockAnalysis(@PathVariable String symbol) {
         log.info("GET /api/prompts/stock-analysis/{}", symbol);
-        String content = mcpService.getStockAnalysisPrompt(symbol);
-        PromptResult result = new PromptResult("stock-analysis-prompt", content);
-        return ResponseEntity.ok(result);
+        return mcpService.getStockAnalysisPrompt(symbol)
+            .thenApply(content -> ResponseEntity.ok(new PromptResult("stock-analysis-prompt", content)));
     }
 
     @GetMapping("/portfolio-review")
-    public ResponseEntity<PromptResult> getPortfolioReview(
+    public CompletableFuture<ResponseEntity<PromptResult>> getPortfolioReview(
             @RequestParam(required = false) String focus) {
         log.info("GET /api/prompts/portfolio-review?focus={}", focus);
-        String content = mcpService.getPortfolioReviewPrompt(focus);
-        PromptResult result = new PromptResult("portfolio-review-prompt", content);
-        return ResponseEntity.ok(result);
+        return mcpService.getPortfolioReviewPrompt(focus)
+            .thenApply(content -> ResponseEntity.ok(new PromptResult("portfolio-review-prompt", content)));
     }
 
     @GetMapping("/investment-advice")
-    public ResponseEntity<PromptResult> getInvestmentAdvice(
+    public CompletableFuture<ResponseEntity<PromptResult>> getInvestmentAdvice(
             @RequestParam Double amount,
             @RequestParam(required = false) String riskTolerance) {
         log.info("GET /api/prompts/investment-advice?amount={}&riskTolerance={}", amount, riskTolerance);
-        String content = mcpService.getInvestmentAdvicePrompt(amount, riskTolerance);
-        PromptResult result = new PromptResult("investment-advice-prompt", content);
-        return ResponseEntity.ok(result);
+        return mcpService.getInvestmentAdvicePrompt(amount, riskTolerance)
+            .thenApply(content -> ResponseEntity.ok(new PromptResult("investment-advice-prompt", content)));
     }
 
     @GetMapping("/stock-signal-analysis/{symbol}")
-    public ResponseEntity<PromptResult> getStockSignalAnalysis(@PathVariable String symbol) {
+    public CompletableFuture<ResponseEntity<PromptResult>> getStockSignalAnalysis(@PathVariable String symbol) {
         log.info("GET /api/prompts/stock-signal-analysis/{}", symbol);
-        String content = mcpService.getStockSignalAnalysisPrompt(symbol);
-        PromptResult result = new PromptResult("stock-signal-analysis-prompt", content);
-        return ResponseEntity.ok(result);
+        return mcpService.getStockSignalAnalysisPrompt(symbol)
+            .thenApply(content -> ResponseEntity.ok(new PromptResult("stock-signal-analysis-prompt", content)));
     }
 
     // ==================== LLM Integration Endpoints ====================
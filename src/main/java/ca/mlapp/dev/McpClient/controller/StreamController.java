@@ -0,0 +1,26 @@
+package ca.mlapp.dev.McpClient.controller;
+
+import ca.mlapp.dev.McpClient.service.DashboardStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+@Slf4j
+public class StreamController {
+
+    private final DashboardStreamService streamService;
+
+    /**
+     * Server-sent events: portfolio, portfolio-value, api-usage, quotes and health.
+     */
+    @GetMapping(value = "/dashboard", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard() {
+        log.info("GET /api/stream/dashboard");
+        return streamService.subscribe();
+    }
+}
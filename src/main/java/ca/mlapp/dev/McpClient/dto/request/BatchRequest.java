@@ -0,0 +1,15 @@
+package ca.mlapp.dev.McpClient.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequest {
+    private List<ToolInvocationRequest> calls;
+    private Integer parallelism;
+}
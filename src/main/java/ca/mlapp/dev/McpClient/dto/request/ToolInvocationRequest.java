@@ -0,0 +1,15 @@
+package ca.mlapp.dev.McpClient.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ToolInvocationRequest {
+    private String tool;
+    private Map<String, Object> arguments;
+}
@@ -0,0 +1,17 @@
+package ca.mlapp.dev.McpClient.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult {
+    private int index;
+    private String tool;
+    private String status;  // 'ok' or 'error'
+    private Object result;
+    private String error;
+    private long durationMs;
+}
@@ -0,0 +1,17 @@
+package ca.mlapp.dev.McpClient.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkQuoteResponse {
+    private Map<String, Object> quotes;
+    private Map<String, String> errors;
+    private int requested;
+    private int succeeded;
+}
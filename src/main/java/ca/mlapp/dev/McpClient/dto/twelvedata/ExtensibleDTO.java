@@ -0,0 +1,28 @@
+package ca.mlapp.dev.McpClient.dto.twelvedata;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import lombok.EqualsAndHashCode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps fields the server sends that a DTO doesn't model and writes them back out, so a typed
+ * decode never drops data when the upstream schema grows or renames a field.
+ */
+@EqualsAndHashCode
+public abstract class ExtensibleDTO {
+
+    private final Map<String, Object> unmappedFields = new LinkedHashMap<>();
+
+    @JsonAnySetter
+    public void setUnmappedField(String name, Object value) {
+        unmappedFields.put(name, value);
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getUnmappedFields() {
+        return unmappedFields;
+    }
+}
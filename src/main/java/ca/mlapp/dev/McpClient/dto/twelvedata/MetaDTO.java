@@ -2,12 +2,14 @@ package ca.mlapp.dev.McpClient.dto.twelvedata;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Data
+@EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
-public class MetaDTO {
+public class MetaDTO extends ExtensibleDTO {
     private String symbol;
     private String interval;
     private String currency;
@@ -1,14 +1,17 @@
 package ca.mlapp.dev.McpClient.dto.twelvedata;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Data
+@EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
-public class QuoteResponseDTO {
+public class QuoteResponseDTO extends ExtensibleDTO {
     private String symbol;
     private String name;
     private String exchange;
@@ -39,6 +42,7 @@ public class QuoteResponseDTO {
     @JsonProperty("fifty_two_week")
     private FiftyTwoWeekDTO fiftyTwoWeek;
 
+    @JsonIgnore
     public Double getCloseAsDouble() {
         try {
             return close != null ? Double.parseDouble(close) : null;
@@ -3,12 +3,14 @@ package ca.mlapp.dev.McpClient.dto.twelvedata;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Data
+@EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
-public class SymbolSearchResultDTO {
+public class SymbolSearchResultDTO extends ExtensibleDTO {
     private String symbol;
 
     @JsonProperty("instrument_name")
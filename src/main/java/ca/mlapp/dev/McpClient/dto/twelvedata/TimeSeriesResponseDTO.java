@@ -2,13 +2,15 @@ package ca.mlapp.dev.McpClient.dto.twelvedata;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Data
+@EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
-public class TimeSeriesResponseDTO {
+public class TimeSeriesResponseDTO extends ExtensibleDTO {
     private MetaDTO meta;
     private List<TimeSeriesValueDTO> values;
     private String status;
@@ -2,12 +2,14 @@ package ca.mlapp.dev.McpClient.dto.twelvedata;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Data
+@EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
-public class TimeSeriesValueDTO {
+public class TimeSeriesValueDTO extends ExtensibleDTO {
     private String datetime;
     private String open;
     private String high;
@@ -0,0 +1,8 @@
+package ca.mlapp.dev.McpClient.exception;
+
+public class CircuitOpenException extends McpClientException {
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package ca.mlapp.dev.McpClient.exception;
+
+public class CreditBudgetExceededException extends McpClientException {
+
+    public CreditBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -23,6 +23,46 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(McpToolException.class)
+    public ResponseEntity<Map<String, Object>> handleMcpToolException(McpToolException ex) {
+        log.error("MCP tool error: {}", ex.getMessage());
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "MCP Tool Error");
+        error.put("message", ex.getMessage());
+        error.put("status", HttpStatus.BAD_GATEWAY.value());
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(error);
+    }
+
+    @ExceptionHandler(CreditBudgetExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleCreditBudgetExceededException(CreditBudgetExceededException ex) {
+        log.warn("Credit budget exceeded: {}", ex.getMessage());
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "API Credit Budget Exceeded");
+        error.put("message", ex.getMessage());
+        error.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+    }
+
+    @ExceptionHandler(CircuitOpenException.class)
+    public ResponseEntity<Map<String, Object>> handleCircuitOpenException(CircuitOpenException ex) {
+        log.warn("Circuit open: {}", ex.getMessage());
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "MCP Server Unavailable");
+        error.put("message", ex.getMessage());
+        error.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
+    @ExceptionHandler(McpTimeoutException.class)
+    public ResponseEntity<Map<String, Object>> handleMcpTimeoutException(McpTimeoutException ex) {
+        log.warn("MCP timeout: {}", ex.getMessage());
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "MCP Timeout");
+        error.put("message", ex.getMessage());
+        error.put("status", HttpStatus.GATEWAY_TIMEOUT.value());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error);
+    }
+
     @ExceptionHandler(LlmException.class)
     public ResponseEntity<Map<String, Object>> handleLlmException(LlmException ex) {
         log.error("LLM error: {}", ex.getMessage(), ex);
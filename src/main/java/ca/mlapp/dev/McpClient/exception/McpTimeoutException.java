@@ -0,0 +1,8 @@
+package ca.mlapp.dev.McpClient.exception;
+
+public class McpTimeoutException extends McpClientException {
+
+    public McpTimeoutException(String message) {
+        super(message);
+    }
+}
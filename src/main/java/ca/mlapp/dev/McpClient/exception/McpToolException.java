@@ -0,0 +1,8 @@
+package ca.mlapp.dev.McpClient.exception;
+
+public class McpToolException extends McpClientException {
+
+    public McpToolException(String message) {
+        super(message);
+    }
+}
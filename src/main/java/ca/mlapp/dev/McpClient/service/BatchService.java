@@ -0,0 +1,137 @@
+package ca.mlapp.dev.McpClient.service;
+
+import ca.mlapp.dev.McpClient.config.McpBatchConfig;
+import ca.mlapp.dev.McpClient.dto.request.BatchRequest;
+import ca.mlapp.dev.McpClient.dto.request.ToolInvocationRequest;
+import ca.mlapp.dev.McpClient.dto.response.BatchItemResult;
+import ca.mlapp.dev.McpClient.service.mcp.BoundedParallel;
+import ca.mlapp.dev.McpClient.service.mcp.McpTools;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+@Service
+@Slf4j
+public class BatchService {
+
+    private final McpClientService mcpService;
+    private final TechnicalIndicatorService indicatorService;
+    private final McpBatchConfig config;
+    private final Executor workerExecutor;
+
+    public BatchService(McpClientService mcpService, TechnicalIndicatorService indicatorService,
+                        McpBatchConfig config, @Qualifier("mcpWorkerExecutor") Executor workerExecutor) {
+        this.mcpService = mcpService;
+        this.indicatorService = indicatorService;
+        this.config = config;
+        this.workerExecutor = workerExecutor;
+    }
+
+    /**
+     * Run every call and complete once all of them have finished, with results in request order.
+     */
+    public CompletableFuture<List<BatchItemResult>> execute(BatchRequest request) {
+        List<CompletableFuture<BatchItemResult>> futures = start(request);
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Start every call and return one future per call, in request order. The futures never
+     * complete exceptionally: a failed call is reported as an error item.
+     */
+    public List<CompletableFuture<BatchItemResult>> start(BatchRequest request) {
+        List<ToolInvocationRequest> calls = validate(request);
+        int parallelism = request.getParallelism() != null
+            ? Math.min(Math.max(request.getParallelism(), 1), config.getMaxParallelism())
+            : config.getDefaultParallelism();
+
+        log.info("Executing batch of {} tool calls with parallelism {}", calls.size(), parallelism);
+        List<Integer> indexes = IntStream.range(0, calls.size()).boxed().toList();
+        return BoundedParallel.map(indexes, parallelism, workerExecutor, index -> invoke(index, calls.get(index)));
+    }
+
+    private BatchItemResult invoke(int index, ToolInvocationRequest call) {
+        long startTime = System.currentTimeMillis();
+        try {
+            Object result = dispatch(call.getTool(), call.getArguments());
+            return new BatchItemResult(index, call.getTool(), "ok", result, null,
+                                       System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("Batch call {} ({}) failed: {}", index, call.getTool(), e.getMessage());
+            return new BatchItemResult(index, call.getTool(), "error", null, e.getMessage(),
+                                       System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * Indicator tools go through the same service as the REST endpoints, so a batch computes them
+     * locally when that is enabled instead of spending upstream credits.
+     */
+    private Object dispatch(String tool, Map<String, Object> arguments) {
+        Map<String, Object> args = arguments != null ? arguments : Map.of();
+        return switch (tool) {
+            case McpTools.GET_SMA -> indicatorService.getSMA(symbol(args), integer(args, "timePeriod"),
+                                                             string(args, "interval"), string(args, "seriesType"));
+            case McpTools.GET_EMA -> indicatorService.getEMA(symbol(args), integer(args, "timePeriod"),
+                                                             string(args, "interval"), string(args, "seriesType"));
+            case McpTools.GET_RSI -> indicatorService.getRSI(symbol(args), integer(args, "timePeriod"),
+                                                             string(args, "interval"), string(args, "seriesType"));
+            case McpTools.GET_MACD -> indicatorService.getMACD(symbol(args), string(args, "interval"),
+                                                               string(args, "seriesType"));
+            case McpTools.GET_BBANDS -> indicatorService.getBollingerBands(symbol(args), integer(args, "timePeriod"),
+                                                                           string(args, "interval"),
+                                                                           string(args, "seriesType"));
+            default -> mcpService.callToolByName(tool, arguments);
+        };
+    }
+
+    private static String symbol(Map<String, Object> args) {
+        String symbol = string(args, "symbol");
+        if (symbol == null || symbol.isBlank()) {
+            throw new IllegalArgumentException("Argument 'symbol' is required");
+        }
+        return symbol;
+    }
+
+    private static String string(Map<String, Object> args, String name) {
+        Object value = args.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    private static Integer integer(Map<String, Object> args, String name) {
+        Object value = args.get(name);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        try {
+            return Integer.valueOf(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Argument '" + name + "' must be an integer");
+        }
+    }
+
+    private List<ToolInvocationRequest> validate(BatchRequest request) {
+        if (request == null || request.getCalls() == null || request.getCalls().isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one call");
+        }
+        if (request.getCalls().size() > config.getMaxCalls()) {
+            throw new IllegalArgumentException("Batch exceeds the limit of " + config.getMaxCalls() + " calls");
+        }
+        for (ToolInvocationRequest call : request.getCalls()) {
+            if (call == null || call.getTool() == null || call.getTool().isBlank()) {
+                throw new IllegalArgumentException("Every batch call requires a tool name");
+            }
+        }
+        return request.getCalls();
+    }
+}
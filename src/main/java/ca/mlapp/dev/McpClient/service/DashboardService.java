@@ -0,0 +1,92 @@
+package ca.mlapp.dev.McpClient.service;
+
+import ca.mlapp.dev.McpClient.service.mcp.McpHealthMonitor;
+import ca.mlapp.dev.McpClient.service.mcp.ToolPayload;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Composes the dashboard and system-info pages into one payload each. The parts are fetched in
+ * parallel on the MCP worker executor, and results needed by more than one part are fetched
+ * once: the position list feeds both the count and the valuation. Health on both pages comes
+ * from the background {@link McpHealthMonitor}, so it agrees with the health endpoints; the
+ * listings come from the cached catalog and say nothing about the connection. A failed part
+ * is reported under {@code errors} with a fallback value instead of failing the whole page.
+ */
+@Service
+@Slf4j
+public class DashboardService {
+
+    private final McpClientService mcpService;
+    private final McpHealthMonitor healthMonitor;
+    private final Executor workerExecutor;
+
+    public DashboardService(McpClientService mcpService, McpHealthMonitor healthMonitor,
+                            @Qualifier("mcpWorkerExecutor") Executor workerExecutor) {
+        this.mcpService = mcpService;
+        this.healthMonitor = healthMonitor;
+        this.workerExecutor = workerExecutor;
+    }
+
+    public CompletableFuture<Map<String, Object>> dashboard() {
+        Map<String, String> errors = new ConcurrentHashMap<>();
+
+        CompletableFuture<Object> stocks = part("stocks", mcpService::listAllStocks, List.of(), errors);
+        // The valuation is synced from the position list, so it runs after it instead of listing again
+        CompletableFuture<Object> value = stocks.thenCompose(ignored ->
+            part("value", mcpService::calculatePortfolioValue, Map.of("totalValue", 0), errors));
+        CompletableFuture<Object> usage = part("apiUsage", mcpService::getApiUsage,
+                                               Map.of("requestsToday", 0, "dailyLimit", 800), errors);
+
+        return CompletableFuture.allOf(value, usage).thenApply(ignored -> {
+            Object positions = stocks.join();
+            Map<String, Object> dashboard = new LinkedHashMap<>();
+            dashboard.put("stocks", positions);
+            dashboard.put("stockCount", ToolPayload.valueOf(positions) instanceof List<?> list ? list.size() : 0);
+            dashboard.put("value", value.join());
+            dashboard.put("apiUsage", usage.join());
+            dashboard.put("health", healthMonitor.health());
+            dashboard.put("errors", errors);
+            return dashboard;
+        });
+    }
+
+    public CompletableFuture<Map<String, Object>> systemInfo() {
+        Map<String, String> errors = new ConcurrentHashMap<>();
+        CompletableFuture<List<McpSchema.Tool>> tools = part("tools", mcpService::listAllTools, List.of(), errors);
+        CompletableFuture<List<McpSchema.Prompt>> prompts =
+            part("prompts", mcpService::listAllPrompts, List.of(), errors);
+        CompletableFuture<List<McpSchema.Resource>> resources =
+            part("resources", mcpService::listAllResources, List.of(), errors);
+
+        return CompletableFuture.allOf(tools, prompts, resources).thenApply(ignored -> {
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("health", healthMonitor.health());
+            info.put("tools", tools.join());
+            info.put("prompts", prompts.join());
+            info.put("resources", resources.join());
+            info.put("errors", errors);
+            return info;
+        });
+    }
+
+    private <T> CompletableFuture<T> part(String name, Supplier<T> call, T fallback, Map<String, String> errors) {
+        return CompletableFuture.supplyAsync(call, workerExecutor).exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.warn("Could not load {}: {}", name, cause.getMessage());
+            errors.put(name, String.valueOf(cause.getMessage()));
+            return fallback;
+        });
+    }
+}
@@ -0,0 +1,179 @@
+package ca.mlapp.dev.McpClient.service;
+
+import ca.mlapp.dev.McpClient.config.McpStreamConfig;
+import ca.mlapp.dev.McpClient.dto.response.BulkQuoteResponse;
+import ca.mlapp.dev.McpClient.service.mcp.CallPriority;
+import ca.mlapp.dev.McpClient.service.mcp.McpHealthMonitor;
+import ca.mlapp.dev.McpClient.service.mcp.ToolPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Pushes dashboard updates to every connected browser over server-sent events. A single
+ * background poller fetches the portfolio, its value, API usage and (less often) quotes once
+ * per interval for all subscribers, and only changed data is broadcast.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardStreamService {
+
+    public static final String EVENT_PORTFOLIO = "portfolio";
+    public static final String EVENT_PORTFOLIO_VALUE = "portfolio-value";
+    public static final String EVENT_API_USAGE = "api-usage";
+    public static final String EVENT_QUOTES = "quotes";
+    public static final String EVENT_HEALTH = "health";
+
+    private final McpClientService mcpService;
+    private final McpStreamConfig config;
+    private final McpHealthMonitor healthMonitor;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final Map<String, Object> lastPublished = new ConcurrentHashMap<>();
+    private volatile long lastQuotePoll;
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(config.getEmitterTimeout().toMillis());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(error -> emitters.remove(emitter));
+        emitters.add(emitter);
+        log.debug("Dashboard stream subscribed ({} connected)", emitters.size());
+
+        // Bring the new subscriber up to date with what everyone else has already seen
+        lastPublished.forEach((event, data) -> send(emitter, event, data));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+
+    @Scheduled(initialDelayString = "${mcp.stream.poll-interval:PT15S}",
+               fixedDelayString = "${mcp.stream.poll-interval:PT15S}")
+    public void poll() {
+        if (!config.isEnabled() || emitters.isEmpty()) {
+            return;
+        }
+        CallPriority.BACKGROUND.run(() -> {
+            Object stocks = fetch(EVENT_PORTFOLIO, mcpService::listAllStocks);
+            Object value = fetch(EVENT_PORTFOLIO_VALUE, mcpService::calculatePortfolioValue);
+            fetch(EVENT_API_USAGE, mcpService::getApiUsage);
+
+            // Portfolio data may come from caches or stale fallbacks, so it says nothing about MCP health
+            publishIfChanged(EVENT_HEALTH, Map.of("status", healthMonitor.status().name()));
+            if (stocks != null) {
+                publishIfChanged(EVENT_PORTFOLIO, stocks);
+            }
+            if (value != null) {
+                publishValue(value);
+            }
+            if (stocks instanceof List<?> positions && quotesDue()) {
+                publishQuotes(positions);
+            }
+            return null;
+        });
+    }
+
+    private Object fetch(String event, Supplier<Object> call) {
+        try {
+            Object result = ToolPayload.valueOf(call.get());
+            if (EVENT_API_USAGE.equals(event)) {
+                publishIfChanged(event, result);
+            }
+            return result;
+        } catch (Exception e) {
+            log.debug("Dashboard stream could not refresh {}: {}", event, e.getMessage());
+            return null;
+        }
+    }
+
+    private void publishValue(Object value) {
+        if (!(value instanceof Map<?, ?> current) || !(current.get("totalValue") instanceof Number total)) {
+            publishIfChanged(EVENT_PORTFOLIO_VALUE, value);
+            return;
+        }
+        Object previous = lastPublished.get(EVENT_PORTFOLIO_VALUE);
+        if (previous instanceof Map<?, ?> previousValue
+                && previousValue.get("totalValue") instanceof Number previousTotal
+                && previousTotal.doubleValue() == total.doubleValue()) {
+            return;
+        }
+
+        Map<String, Object> update = new LinkedHashMap<>();
+        current.forEach((key, field) -> update.put(String.valueOf(key), field));
+        if (previous instanceof Map<?, ?> previousValue && previousValue.get("totalValue") instanceof Number previousTotal) {
+            update.put("delta", total.doubleValue() - previousTotal.doubleValue());
+        }
+        lastPublished.put(EVENT_PORTFOLIO_VALUE, update);
+        broadcast(EVENT_PORTFOLIO_VALUE, update);
+    }
+
+    private void publishQuotes(List<?> positions) {
+        List<String> symbols = positions.stream()
+            .filter(Map.class::isInstance)
+            .map(position -> ((Map<?, ?>) position).get("symbol"))
+            .filter(Objects::nonNull)
+            .map(String::valueOf)
+            .toList();
+        if (symbols.isEmpty()) {
+            return;
+        }
+        try {
+            BulkQuoteResponse quotes = mcpService.fetchRealtimeQuotes(symbols);
+            Map<String, Object> decoded = new LinkedHashMap<>();
+            quotes.getQuotes().forEach((symbol, quote) -> decoded.put(symbol, ToolPayload.valueOf(quote)));
+            if (!decoded.isEmpty()) {
+                publishIfChanged(EVENT_QUOTES, decoded);
+            }
+        } catch (Exception e) {
+            log.debug("Dashboard stream could not refresh quotes: {}", e.getMessage());
+        }
+    }
+
+    private boolean quotesDue() {
+        long interval = config.getQuoteInterval().toNanos();
+        long now = System.nanoTime();
+        if (interval <= 0 || (lastQuotePoll != 0 && now - lastQuotePoll < interval)) {
+            return false;
+        }
+        lastQuotePoll = now;
+        return true;
+    }
+
+    private void publishIfChanged(String event, Object data) {
+        if (data == null || data.equals(lastPublished.get(event))) {
+            return;
+        }
+        lastPublished.put(event, data);
+        broadcast(event, data);
+    }
+
+    private void broadcast(String event, Object data) {
+        log.debug("Broadcasting {} to {} dashboard stream(s)", event, emitters.size());
+        for (SseEmitter emitter : emitters) {
+            send(emitter, event, data);
+        }
+    }
+
+    private void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package ca.mlapp.dev.McpClient.service;
+
+import ca.mlapp.dev.McpClient.dto.response.BulkQuoteResponse;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking facade over {@link McpClientService}. Each call runs on the MCP executor so
+ * controllers can hand the servlet thread back to the container while the MCP server works.
+ */
+@Service
+public class McpAsyncClientService {
+
+    private final McpClientService mcpService;
+    private final TechnicalIndicatorService indicatorService;
+    private final Executor mcpExecutor;
+
+    public McpAsyncClientService(McpClientService mcpService,
+                                 TechnicalIndicatorService indicatorService,
+                                 @Qualifier("mcpExecutor") Executor mcpExecutor) {
+        this.mcpService = mcpService;
+        this.indicatorService = indicatorService;
+        this.mcpExecutor = mcpExecutor;
+    }
+
+    // ==================== Discovery Methods ====================
+
+    public CompletableFuture<List<McpSchema.Tool>> listAllTools() {
+        return supply(mcpService::listAllTools);
+    }
+
+    public CompletableFuture<List<McpSchema.Prompt>> listAllPrompts() {
+        return supply(mcpService::listAllPrompts);
+    }
+
+    public CompletableFuture<List<McpSchema.Resource>> listAllResources() {
+        return supply(mcpService::listAllResources);
+    }
+
+    // ==================== Portfolio Tools ====================
+
+    public CompletableFuture<Object> listAllStocks() {
+        return supply(mcpService::listAllStocks);
+    }
+
+    public CompletableFuture<Object> getStock(String symbol) {
+        return supply(() -> mcpService.getStock(symbol));
+    }
+
+    public CompletableFuture<Object> addStock(String symbol, String name, Double price, Integer shares) {
+        return supply(() -> mcpService.addStock(symbol, name, price, shares));
+    }
+
+    public CompletableFuture<Object> updateStockPrice(String symbol, Double newPrice) {
+        return supply(() -> mcpService.updateStockPrice(symbol, newPrice));
+    }
+
+    public CompletableFuture<Object> updateStockShares(String symbol, Integer newShares) {
+        return supply(() -> mcpService.updateStockShares(symbol, newShares));
+    }
+
+    public CompletableFuture<Void> deleteStock(String symbol) {
+        return CompletableFuture.runAsync(() -> mcpService.deleteStock(symbol), mcpExecutor);
+    }
+
+    public CompletableFuture<Object> searchStocks(String pattern) {
+        return supply(() -> mcpService.searchStocks(pattern));
+    }
+
+    public CompletableFuture<Object> calculatePortfolioValue() {
+        return supply(mcpService::calculatePortfolioValue);
+    }
+
+    // ==================== TwelveData Tools ====================
+
+    public CompletableFuture<Object> fetchRealtimeQuote(String symbol) {
+        return supply(() -> mcpService.fetchRealtimeQuote(symbol));
+    }
+
+    public CompletableFuture<BulkQuoteResponse> fetchRealtimeQuotes(Collection<String> symbols) {
+        return supply(() -> mcpService.fetchRealtimeQuotes(symbols));
+    }
+
+    public CompletableFuture<Object> getHistoricalData(String symbol, String interval, Integer outputSize) {
+        return supply(() -> mcpService.getHistoricalData(symbol, interval, outputSize));
+    }
+
+    public CompletableFuture<Object> refreshAllPrices() {
+        return supply(mcpService::refreshAllPrices);
+    }
+
+    public CompletableFuture<Object> searchStockSymbols(String query) {
+        return supply(() -> mcpService.searchStockSymbols(query));
+    }
+
+    public CompletableFuture<Object> getApiUsage() {
+        return supply(mcpService::getApiUsage);
+    }
+
+    // ==================== Technical Indicator Methods ====================
+
+    public CompletableFuture<Object> getSMA(String symbol, Integer timePeriod, String interval, String seriesType) {
+        return supply(() -> indicatorService.getSMA(symbol, timePeriod, interval, seriesType));
+    }
+
+    public CompletableFuture<Object> getEMA(String symbol, Integer timePeriod, String interval, String seriesType) {
+        return supply(() -> indicatorService.getEMA(symbol, timePeriod, interval, seriesType));
+    }
+
+    public CompletableFuture<Object> getRSI(String symbol, Integer timePeriod, String interval, String seriesType) {
+        return supply(() -> indicatorService.getRSI(symbol, timePeriod, interval, seriesType));
+    }
+
+    public CompletableFuture<Object> getMACD(String symbol, String interval, String seriesType) {
+        return supply(() -> indicatorService.getMACD(symbol, interval, seriesType));
+    }
+
+    public CompletableFuture<Object> getBollingerBands(String symbol, Integer timePeriod, String interval, String seriesType) {
+        return supply(() -> indicatorService.getBollingerBands(symbol, timePeriod, interval, seriesType));
+    }
+
+    // ==================== Prompt Methods ====================
+
+    public CompletableFuture<String> getStockAnalysisPrompt(String symbol) {
+        return supply(() -> mcpService.getStockAnalysisPrompt(symbol));
+    }
+
+    public CompletableFuture<String> getPortfolioReviewPrompt(String focus) {
+        return supply(() -> mcpService.getPortfolioReviewPrompt(focus));
+    }
+
+    public CompletableFuture<String> getInvestmentAdvicePrompt(Double amount, String riskTolerance) {
+        return supply(() -> mcpService.getInvestmentAdvicePrompt(amount, riskTolerance));
+    }
+
+    public CompletableFuture<String> getStockSignalAnalysisPrompt(String symbol) {
+        return supply(() -> mcpService.getStockSignalAnalysisPrompt(symbol));
+    }
+
+    // ==================== Resource Methods ====================
+
+    public CompletableFuture<String> getStockResource(String symbol) {
+        return supply(() -> mcpService.getStockResource(symbol));
+    }
+
+    public CompletableFuture<String> getPortfolioSummary() {
+        return supply(mcpService::getPortfolioSummary);
+    }
+
+    public CompletableFuture<String> getStockList() {
+        return supply(mcpService::getStockList);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, mcpExecutor);
+    }
+}
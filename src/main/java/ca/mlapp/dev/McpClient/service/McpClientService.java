@@ -1,69 +1,103 @@
 package ca.mlapp.dev.McpClient.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.modelcontextprotocol.client.McpSyncClient;
+import ca.mlapp.dev.McpClient.config.McpPassthroughConfig;
+import ca.mlapp.dev.McpClient.config.McpPortfolioConfig;
+import ca.mlapp.dev.McpClient.config.McpQuoteConfig;
+import ca.mlapp.dev.McpClient.config.McpSearchConfig;
+import ca.mlapp.dev.McpClient.dto.response.BulkQuoteResponse;
+import ca.mlapp.dev.McpClient.dto.twelvedata.SymbolSearchResponseDTO;
+import ca.mlapp.dev.McpClient.dto.twelvedata.SymbolSearchResultDTO;
+import ca.mlapp.dev.McpClient.exception.CircuitOpenException;
+import ca.mlapp.dev.McpClient.exception.CreditBudgetExceededException;
+import ca.mlapp.dev.McpClient.exception.McpTimeoutException;
+import ca.mlapp.dev.McpClient.exception.McpToolException;
+import ca.mlapp.dev.McpClient.service.indicator.IndicatorStateStore;
+import ca.mlapp.dev.McpClient.service.mcp.BoundedParallel;
+import ca.mlapp.dev.McpClient.service.mcp.CallKey;
+import ca.mlapp.dev.McpClient.service.mcp.CreditBudget;
+import ca.mlapp.dev.McpClient.service.mcp.McpCapabilityCatalog;
+import ca.mlapp.dev.McpClient.service.mcp.McpTools;
+import ca.mlapp.dev.McpClient.service.mcp.ResilientInvoker;
+import ca.mlapp.dev.McpClient.service.mcp.ResourceMirror;
+import ca.mlapp.dev.McpClient.service.mcp.SingleFlight;
+import ca.mlapp.dev.McpClient.service.mcp.ToolResultCache;
+import ca.mlapp.dev.McpClient.service.mcp.ToolPayload;
+import ca.mlapp.dev.McpClient.service.mcp.ToolResultEvent;
+import ca.mlapp.dev.McpClient.service.mcp.ToolResultDecoder;
+import ca.mlapp.dev.McpClient.service.portfolio.PortfolioSearch;
+import ca.mlapp.dev.McpClient.service.portfolio.PortfolioValuation;
+import ca.mlapp.dev.McpClient.service.search.SymbolIndex;
+import ca.mlapp.dev.McpClient.service.series.PersistedMarketData;
 import io.modelcontextprotocol.spec.McpSchema;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class McpClientService {
 
-    private final List<McpSyncClient> mcpClients;
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    private McpSyncClient getClient() {
-        if (mcpClients == null || mcpClients.isEmpty()) {
-            throw new IllegalStateException("No MCP clients configured");
-        }
-        return mcpClients.get(0);
-    }
+    private final ResilientInvoker invoker;
+    private final ToolResultCache resultCache;
+    private final ResourceMirror resourceMirror;
+    private final SingleFlight singleFlight;
+    private final McpCapabilityCatalog catalog;
+    private final ToolResultDecoder resultDecoder;
+    private final McpPassthroughConfig passthroughConfig;
+    private final McpQuoteConfig quoteConfig;
+    private final IndicatorStateStore indicatorStates;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CreditBudget creditBudget;
+    private final PersistedMarketData persistedMarketData;
+    private final PortfolioValuation valuation;
+    private final PortfolioSearch portfolioSearch;
+    private final McpPortfolioConfig portfolioConfig;
+    private final SymbolIndex symbolIndex;
+    private final McpSearchConfig searchConfig;
+    @Qualifier("mcpWorkerExecutor")
+    private final Executor workerExecutor;
 
     // ==================== Discovery Methods ====================
 
     public List<McpSchema.Tool> listAllTools() {
-        log.debug("Listing all available tools");
-        McpSchema.ListToolsResult result = getClient().listTools();
-        return result.tools();
+        log.debug("Listing all available tools from the capability catalog");
+        return catalog.getTools();
     }
 
     public List<McpSchema.Prompt> listAllPrompts() {
-        log.debug("Listing all available prompts");
-        McpSchema.ListPromptsResult result = getClient().listPrompts();
-        return result.prompts();
+        log.debug("Listing all available prompts from the capability catalog");
+        return catalog.getPrompts();
     }
 
     public List<McpSchema.Resource> listAllResources() {
-        log.debug("Listing all available resources");
-        McpSchema.ListResourcesResult result = getClient().listResources();
-        return result.resources();
+        log.debug("Listing all available resources from the capability catalog");
+        return catalog.getResources();
     }
 
     // ==================== Portfolio Tools ====================
 
     public Object listAllStocks() {
         log.debug("Calling tool: list-all-stocks");
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("list-all-stocks", Map.of())
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.LIST_ALL_STOCKS, Map.of());
     }
 
     public Object getStock(String symbol) {
         log.debug("Calling tool: get-stock with symbol={}", symbol);
         Map<String, Object> args = new LinkedHashMap<>();
         args.put("symbol", symbol);
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("get-stock", args)
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.GET_STOCK, args);
     }
 
     public Object addStock(String symbol, String name, Double price, Integer shares) {
@@ -75,10 +109,7 @@ public class McpClientService {
         if (price != null) args.put("price", price);
         if (shares != null) args.put("shares", shares);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("add-stock", args)
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.ADD_STOCK, args);
     }
 
     public Object updateStockPrice(String symbol, Double newPrice) {
@@ -87,10 +118,7 @@ public class McpClientService {
         args.put("symbol", symbol);
         args.put("newPrice", newPrice);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("update-stock-price", args)
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.UPDATE_STOCK_PRICE, args);
     }
 
     public Object updateStockShares(String symbol, Integer newShares) {
@@ -99,10 +127,7 @@ public class McpClientService {
         args.put("symbol", symbol);
         args.put("newShares", newShares);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("update-stock-shares", args)
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.UPDATE_STOCK_SHARES, args);
     }
 
     public void deleteStock(String symbol) {
@@ -110,29 +135,37 @@ public class McpClientService {
         Map<String, Object> args = new LinkedHashMap<>();
         args.put("symbol", symbol);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("delete-stock", args)
-        );
-        parseToolResult(result);
+        callTool(McpTools.DELETE_STOCK, args);
     }
 
     public Object searchStocks(String pattern) {
+        if (portfolioConfig.isLocalSearch()) {
+            // The position list is small and usually cached already; the tool is only needed without it
+            Object positions = ToolPayload.valueOf(resultCache.getFresh(McpTools.LIST_ALL_STOCKS, Map.of()));
+            if (positions instanceof List<?> stocks) {
+                log.debug("Searching {} cached positions for pattern={}", stocks.size(), pattern);
+                return portfolioSearch.search(stocks, pattern);
+            }
+        }
         log.debug("Calling tool: search-stocks with pattern={}", pattern);
         Map<String, Object> args = new LinkedHashMap<>();
         args.put("pattern", pattern);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("search-stocks", args)
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.SEARCH_STOCKS, args);
     }
 
     public Object calculatePortfolioValue() {
+        if (portfolioConfig.isLocalValuation()) {
+            if (!valuation.isReady()) {
+                // Loading the positions once is enough; from then on price and share changes apply in place
+                listAllStocks();
+            }
+            if (valuation.isReady()) {
+                return valuation.snapshot();
+            }
+        }
         log.debug("Calling tool: calculate-portfolio-value");
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("calculate-portfolio-value", Map.of())
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.CALCULATE_PORTFOLIO_VALUE, Map.of());
     }
 
     // ==================== TwelveData Tools ====================
@@ -142,10 +175,39 @@ public class McpClientService {
         Map<String, Object> args = new LinkedHashMap<>();
         args.put("symbol", symbol);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("fetch-realtime-quote", args)
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.FETCH_REALTIME_QUOTE, args);
+    }
+
+    public BulkQuoteResponse fetchRealtimeQuotes(Collection<String> symbols) {
+        List<String> uniqueSymbols = symbols == null ? List.of() : symbols.stream()
+            .filter(symbol -> symbol != null && !symbol.isBlank())
+            .map(symbol -> symbol.trim().toUpperCase(Locale.ROOT))
+            .distinct()
+            .toList();
+        if (uniqueSymbols.isEmpty()) {
+            throw new IllegalArgumentException("At least one symbol is required");
+        }
+        if (uniqueSymbols.size() > quoteConfig.getMaxSymbols()) {
+            throw new IllegalArgumentException("Too many symbols, the limit is " + quoteConfig.getMaxSymbols());
+        }
+        log.debug("Fetching {} realtime quotes with concurrency {}", uniqueSymbols.size(), quoteConfig.getBulkConcurrency());
+
+        List<CompletableFuture<Object>> futures = BoundedParallel.map(
+            uniqueSymbols, quoteConfig.getBulkConcurrency(), workerExecutor, this::fetchRealtimeQuote);
+
+        Map<String, Object> quotes = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (int i = 0; i < uniqueSymbols.size(); i++) {
+            String symbol = uniqueSymbols.get(i);
+            try {
+                quotes.put(symbol, futures.get(i).join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("Quote for {} failed: {}", symbol, cause.getMessage());
+                errors.put(symbol, cause.getMessage());
+            }
+        }
+        return new BulkQuoteResponse(quotes, errors, uniqueSymbols.size(), quotes.size());
     }
 
     public Object getHistoricalData(String symbol, String interval, Integer outputSize) {
@@ -156,33 +218,39 @@ public class McpClientService {
         args.put("interval", interval);
         if (outputSize != null) args.put("outputSize", outputSize);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("get-historical-data", args)
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.GET_HISTORICAL_DATA, args);
     }
 
     public Object refreshAllPrices() {
         log.debug("Calling tool: refresh-all-prices");
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("refresh-all-prices", Map.of())
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.REFRESH_ALL_PRICES, Map.of());
     }
 
     public Object searchStockSymbols(String query) {
+        if (searchConfig.isLocalIndex()) {
+            List<SymbolSearchResultDTO> local = symbolIndex.lookup(query);
+            if (local != null) {
+                log.debug("Answered symbol search for {} from the local index ({} matches)", query, local.size());
+                return new SymbolSearchResponseDTO(local, "ok");
+            }
+        }
+
         log.debug("Calling tool: search-stock-symbols with query={}", query);
         Map<String, Object> args = new LinkedHashMap<>();
         args.put("query", query);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("search-stock-symbols", args)
-        );
-
-        // Parse the raw result (returns List<SymbolSearchResultDTO>)
-        Object rawResult = parseToolResult(result);
+        // Decoded as List<SymbolSearchResultDTO>, unless the tool answered with plain text
+        Object rawResult = callTool(McpTools.SEARCH_STOCK_SYMBOLS, args);
 
         // Wrap in the format expected by frontend: {data: [...], status: "ok"}
+        if (ToolPayload.valueOf(rawResult) instanceof List<?> results) {
+            @SuppressWarnings("unchecked")
+            List<SymbolSearchResultDTO> symbols = (List<SymbolSearchResultDTO>) results;
+            if (searchConfig.isLocalIndex()) {
+                symbolIndex.learn(query, symbols);
+            }
+            return new SymbolSearchResponseDTO(symbols, "ok");
+        }
         Map<String, Object> wrappedResult = new LinkedHashMap<>();
         wrappedResult.put("data", rawResult);
         wrappedResult.put("status", "ok");
@@ -192,10 +260,7 @@ public class McpClientService {
 
     public Object getApiUsage() {
         log.debug("Calling tool: get-api-usage");
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("get-api-usage", Map.of())
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.GET_API_USAGE, Map.of());
     }
 
     // ==================== Technical Indicator Methods ====================
@@ -209,10 +274,7 @@ public class McpClientService {
         if (interval != null) args.put("interval", interval);
         if (seriesType != null) args.put("seriesType", seriesType);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("get-sma", args)
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.GET_SMA, args);
     }
 
     public Object getEMA(String symbol, Integer timePeriod, String interval, String seriesType) {
@@ -224,10 +286,7 @@ public class McpClientService {
         if (interval != null) args.put("interval", interval);
         if (seriesType != null) args.put("seriesType", seriesType);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("get-ema", args)
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.GET_EMA, args);
     }
 
     public Object getRSI(String symbol, Integer timePeriod, String interval, String seriesType) {
@@ -239,10 +298,7 @@ public class McpClientService {
         if (interval != null) args.put("interval", interval);
         if (seriesType != null) args.put("seriesType", seriesType);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("get-rsi", args)
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.GET_RSI, args);
     }
 
     public Object getMACD(String symbol, String interval, String seriesType) {
@@ -253,10 +309,7 @@ public class McpClientService {
         if (interval != null) args.put("interval", interval);
         if (seriesType != null) args.put("seriesType", seriesType);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("get-macd", args)
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.GET_MACD, args);
     }
 
     public Object getBollingerBands(String symbol, Integer timePeriod, String interval, String seriesType) {
@@ -268,10 +321,7 @@ public class McpClientService {
         if (interval != null) args.put("interval", interval);
         if (seriesType != null) args.put("seriesType", seriesType);
 
-        McpSchema.CallToolResult result = getClient().callTool(
-            new McpSchema.CallToolRequest("get-bbands", args)
-        );
-        return parseToolResult(result);
+        return callTool(McpTools.GET_BBANDS, args);
     }
 
     // ==================== Prompt Methods ====================
@@ -281,10 +331,7 @@ public class McpClientService {
         Map<String, Object> args = new LinkedHashMap<>();
         args.put("symbol", symbol);
 
-        McpSchema.GetPromptResult result = getClient().getPrompt(
-            new McpSchema.GetPromptRequest("stock-analysis", args)
-        );
-        return extractPromptText(result);
+        return getPrompt("stock-analysis", args);
     }
 
     public String getPortfolioReviewPrompt(String focus) {
@@ -294,10 +341,7 @@ public class McpClientService {
             args.put("focus", focus);
         }
 
-        McpSchema.GetPromptResult result = getClient().getPrompt(
-            new McpSchema.GetPromptRequest("portfolio-review", args)
-        );
-        return extractPromptText(result);
+        return getPrompt("portfolio-review", args);
     }
 
     public String getInvestmentAdvicePrompt(Double amount, String riskTolerance) {
@@ -309,10 +353,7 @@ public class McpClientService {
             args.put("riskTolerance", riskTolerance);
         }
 
-        McpSchema.GetPromptResult result = getClient().getPrompt(
-            new McpSchema.GetPromptRequest("investment-advice", args)
-        );
-        return extractPromptText(result);
+        return getPrompt("investment-advice", args);
     }
 
     public String getStockSignalAnalysisPrompt(String symbol) {
@@ -320,10 +361,7 @@ public class McpClientService {
         Map<String, Object> args = new LinkedHashMap<>();
         args.put("symbol", symbol);
 
-        McpSchema.GetPromptResult result = getClient().getPrompt(
-            new McpSchema.GetPromptRequest("stock-signal-analysis", args)
-        );
-        return extractPromptText(result);
+        return getPrompt("stock-signal-analysis", args);
     }
 
     // ==================== Resource Methods ====================
@@ -331,59 +369,169 @@ public class McpClientService {
     public String getStockResource(String symbol) {
         log.debug("Reading stock resource with symbol={}", symbol);
         String uri = "stock://" + symbol;
-        McpSchema.ReadResourceResult result = getClient().readResource(
-            new McpSchema.ReadResourceRequest(uri)
-        );
-        return extractResourceText(result);
+        return readResource("stock://{symbol}", uri);
     }
 
     public String getPortfolioSummary() {
         log.debug("Reading portfolio://summary resource");
-        McpSchema.ReadResourceResult result = getClient().readResource(
-            new McpSchema.ReadResourceRequest("portfolio://summary")
-        );
-        return extractResourceText(result);
+        return readResource("portfolio://summary", "portfolio://summary");
     }
 
     public String getStockList() {
         log.debug("Reading portfolio://list resource");
-        McpSchema.ReadResourceResult result = getClient().readResource(
-            new McpSchema.ReadResourceRequest("portfolio://list")
-        );
-        return extractResourceText(result);
+        return readResource("portfolio://list", "portfolio://list");
+    }
+
+    // ==================== Generic Tool Invocation ====================
+
+    public Object callToolByName(String toolName, Map<String, Object> arguments) {
+        log.debug("Calling tool: {} with arguments={}", toolName, arguments);
+        if (toolName == null || toolName.isBlank()) {
+            throw new IllegalArgumentException("Tool name is required");
+        }
+        if (!catalog.hasTool(toolName)) {
+            throw new IllegalArgumentException("Unknown tool: " + toolName);
+        }
+        return callTool(toolName, arguments != null ? new LinkedHashMap<>(arguments) : Map.of());
     }
 
     // ==================== Helper Methods ====================
 
-    private Object parseToolResult(McpSchema.CallToolResult result) {
+    private Object callTool(String toolName, Map<String, Object> args) {
+        ToolPayload payload = fetchTool(toolName, args);
+        // Untransformed JSON goes back to REST clients verbatim instead of parse + re-serialize
+        if (passthroughConfig.appliesTo(toolName) && payload.isJson()) {
+            return payload;
+        }
+        return payload.value();
+    }
+
+    private ToolPayload fetchTool(String toolName, Map<String, Object> args) {
+        if (McpTools.MUTATING.contains(toolName)) {
+            creditBudget.acquire(toolName);
+            boolean succeeded = false;
+            try {
+                ToolPayload payload = invokeTool(toolName, args);
+                succeeded = true;
+                return payload;
+            } finally {
+                // Every write path (named methods, batch, generic tool calls) lands here
+                resultCache.invalidateAfter(toolName, args);
+                resourceMirror.invalidateAfter(toolName, args);
+                valuation.afterWrite(toolName, args, succeeded);
+            }
+        }
+        ToolPayload payload = fetchRead(toolName, args);
+        afterRead(toolName, args, payload);
+        return payload;
+    }
+
+    /**
+     * Keep local state in step with what was read, whichever path the call came through
+     * (named methods, batch or generic tool calls).
+     */
+    private void afterRead(String toolName, Map<String, Object> args, ToolPayload payload) {
+        switch (toolName) {
+            case McpTools.LIST_ALL_STOCKS -> valuation.syncPositions(payload.value());
+            case McpTools.FETCH_REALTIME_QUOTE -> {
+                // Moves the provisional daily bar of any indicators tracked for this symbol
+                String symbol = CallKey.symbolOf(args);
+                if (indicatorStates.isQuoteTracked(symbol)) {
+                    indicatorStates.onQuote(symbol, payload.value());
+                }
+                valuation.onQuote(payload.value());
+            }
+            case McpTools.GET_HISTORICAL_DATA -> {
+                // Checked first so untracked history stays undecoded for passthrough
+                String symbol = CallKey.symbolOf(args);
+                Object interval = args.get("interval");
+                if (interval != null && indicatorStates.isTracked(symbol, interval.toString())) {
+                    indicatorStates.onHistoricalData(symbol, interval.toString(), payload.value());
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private ToolPayload fetchRead(String toolName, Map<String, Object> args) {
+        try {
+            return resultCache.get(toolName, args, () -> {
+                // Market data that cannot have changed since it was persisted costs no credit
+                ToolPayload persisted = persistedMarketData.lookup(toolName, args);
+                if (persisted != null) {
+                    return persisted;
+                }
+                return singleFlight.execute(CallKey.of("tool", toolName, args), () -> {
+                    creditBudget.acquire(toolName);
+                    return invokeTool(toolName, args);
+                });
+            });
+        } catch (CreditBudgetExceededException | CircuitOpenException | McpTimeoutException e) {
+            // An expired answer beats an error when credits have run out or the server is struggling
+            ToolPayload stale = resultCache.getStale(toolName, args);
+            if (stale != null) {
+                log.warn("Serving stale {} result: {}", toolName, e.getMessage());
+                return stale;
+            }
+            throw e;
+        }
+    }
+
+    private ToolPayload invokeTool(String toolName, Map<String, Object> args) {
+        McpSchema.CallToolResult result = invoker.execute(toolName, client ->
+            client.callTool(new McpSchema.CallToolRequest(toolName, args))
+        );
+        ToolPayload payload = parseToolResult(toolName, result);
+        eventPublisher.publishEvent(new ToolResultEvent(toolName, args, payload));
+        return payload;
+    }
+
+    private String getPrompt(String promptName, Map<String, Object> args) {
+        McpSchema.GetPromptResult result = singleFlight.execute(CallKey.of("prompt", promptName, args), () ->
+            invoker.execute(promptName, client -> client.getPrompt(new McpSchema.GetPromptRequest(promptName, args)))
+        );
+        return extractPromptText(result);
+    }
+
+    /**
+     * Read a resource, naming the call (for its circuit breaker, timeout and metrics) by the URI
+     * template it was built from, so each kind of resource is tracked on its own without a
+     * series per symbol.
+     */
+    private String readResource(String uriTemplate, String uri) {
+        String operation = "resource:" + uriTemplate;
+        return resourceMirror.read(uri, () -> {
+            McpSchema.ReadResourceResult result = singleFlight.execute(CallKey.of("resource", uri, null), () ->
+                invoker.execute(operation, client -> client.readResource(new McpSchema.ReadResourceRequest(uri)))
+            );
+            return ResourceMirror.textOf(result.contents());
+        });
+    }
+
+    private ToolPayload parseToolResult(String toolName, McpSchema.CallToolResult result) {
         if (result.isError()) {
             String errorMsg = "Tool call failed";
             if (result.content() != null && !result.content().isEmpty()) {
                 errorMsg = result.content().toString();
             }
             log.error("Tool call error: {}", errorMsg);
-            throw new RuntimeException(errorMsg);
+            // The upstream tool failed, not the caller's request
+            throw new McpToolException(errorMsg);
         }
 
         if (result.content() == null || result.content().isEmpty()) {
-            return null;
+            return resultDecoder.payload(toolName, null);
         }
 
-        // Extract text content and parse as JSON
+        // Extract text content; decoding (typed DTO, generic JSON or plain text) happens on first use
         for (var content : result.content()) {
             if (content instanceof McpSchema.TextContent textContent) {
-                String text = textContent.text();
-                try {
-                    // Try to parse as JSON
-                    return objectMapper.readValue(text, Object.class);
-                } catch (Exception e) {
-                    // If not JSON, return as string
-                    return text;
-                }
+                return resultDecoder.payload(toolName, textContent.text());
             }
         }
 
-        return null;
+        return resultDecoder.payload(toolName, null);
     }
 
     private String extractPromptText(McpSchema.GetPromptResult result) {
@@ -400,19 +548,4 @@ public class McpClientService {
 
         return promptText.toString().trim();
     }
-
-    private String extractResourceText(McpSchema.ReadResourceResult result) {
-        if (result.contents() == null || result.contents().isEmpty()) {
-            return "";
-        }
-
-        StringBuilder resourceText = new StringBuilder();
-        for (var content : result.contents()) {
-            if (content instanceof McpSchema.TextResourceContents textContent) {
-                resourceText.append(textContent.text()).append("\n");
-            }
-        }
-
-        return resourceText.toString().trim();
-    }
 }
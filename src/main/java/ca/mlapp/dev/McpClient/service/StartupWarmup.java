@@ -0,0 +1,219 @@
+package ca.mlapp.dev.McpClient.service;
+
+import ca.mlapp.dev.McpClient.config.McpQuoteConfig;
+import ca.mlapp.dev.McpClient.config.McpWarmupConfig;
+import ca.mlapp.dev.McpClient.service.mcp.CallPriority;
+import ca.mlapp.dev.McpClient.service.mcp.McpCapabilityCatalog;
+import ca.mlapp.dev.McpClient.service.mcp.McpClientPool;
+import ca.mlapp.dev.McpClient.service.mcp.McpTools;
+import ca.mlapp.dev.McpClient.service.mcp.ToolPayload;
+import ca.mlapp.dev.McpClient.service.mcp.ToolResultDecoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.client.McpSyncClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Warms the application up before it reports itself ready: initializes every MCP connection,
+ * loads the capability catalog, fetches the positions and their quotes, and runs the JSON
+ * decode/encode paths until they are compiled. Readiness stays REFUSING_TRAFFIC until the
+ * warm-up finishes or its deadline passes, so a new instance doesn't take traffic cold.
+ */
+@Component
+@Slf4j
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final String SAMPLE_QUOTE = """
+        {"symbol":"AAPL","name":"Apple Inc.","exchange":"NASDAQ","currency":"USD","datetime":"2024-01-02",
+         "timestamp":1704205800,"open":"187.15","high":"188.44","low":"183.89","close":"185.64",
+         "volume":"82488700","previous_close":"192.53","change":"-6.89","percent_change":"-3.58",
+         "average_volume":"51234567","is_market_open":false,
+         "fifty_two_week":{"low":"124.17","high":"199.62","low_change":"61.47","high_change":"-13.98",
+         "low_change_percent":"49.5","high_change_percent":"-7.0","range":"124.17 - 199.62"}}
+        """;
+    private static final String SAMPLE_SERIES = """
+        {"meta":{"symbol":"AAPL","interval":"1day","currency":"USD","exchange_timezone":"America/New_York",
+         "exchange":"NASDAQ"},"values":[
+         {"datetime":"2024-01-02","open":"187.15","high":"188.44","low":"183.89","close":"185.64","volume":"82488700"},
+         {"datetime":"2023-12-29","open":"193.90","high":"194.40","low":"191.73","close":"192.53","volume":"42628800"},
+         {"datetime":"2023-12-28","open":"194.14","high":"194.66","low":"193.17","close":"193.58","volume":"34049900"}],
+         "status":"ok"}
+        """;
+    private static final String SAMPLE_SEARCH = """
+        [{"symbol":"AAPL","instrument_name":"Apple Inc","exchange":"NASDAQ","mic_code":"XNGS",
+          "exchange_timezone":"America/New_York","instrument_type":"Common Stock","country":"United States",
+          "currency":"USD"}]
+        """;
+
+    private static final String SAMPLE_POSITIONS = """
+        [{"id":1,"symbol":"AAPL","name":"Apple Inc.","currentPrice":185.64,"shares":10,"totalValue":1856.4,
+          "lastUpdated":"2024-01-02T16:00:00"},
+         {"id":2,"symbol":"MSFT","name":"Microsoft Corporation","currentPrice":370.87,"shares":5,
+          "totalValue":1854.35,"lastUpdated":"2024-01-02T16:00:00"}]
+        """;
+
+    private final McpWarmupConfig config;
+    private final McpQuoteConfig quoteConfig;
+    private final McpClientPool clientPool;
+    private final McpCapabilityCatalog catalog;
+    private final McpClientService mcpService;
+    private final ToolResultDecoder resultDecoder;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor workerExecutor;
+    private final Map<String, Map<String, Object>> steps = new ConcurrentHashMap<>();
+    private volatile String state = "PENDING";
+
+    public StartupWarmup(McpWarmupConfig config, McpQuoteConfig quoteConfig, McpClientPool clientPool,
+                         McpCapabilityCatalog catalog, McpClientService mcpService, ToolResultDecoder resultDecoder,
+                         ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+                         @Qualifier("mcpWorkerExecutor") Executor workerExecutor) {
+        this.config = config;
+        this.quoteConfig = quoteConfig;
+        this.clientPool = clientPool;
+        this.catalog = catalog;
+        this.mcpService = mcpService;
+        this.resultDecoder = resultDecoder;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.workerExecutor = workerExecutor;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!config.isEnabled()) {
+            state = "DISABLED";
+            return;
+        }
+
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        state = "RUNNING";
+        long start = System.nanoTime();
+
+        CompletableFuture<Void> connections = CompletableFuture.runAsync(
+            () -> step("connections", this::initializeConnections), workerExecutor);
+        CompletableFuture<Void> warmup = CompletableFuture.allOf(
+            connections.thenRunAsync(() -> step("catalog", catalog::refresh), workerExecutor),
+            connections.thenRunAsync(() -> step("portfolio", this::prefetchPortfolio), workerExecutor),
+            CompletableFuture.runAsync(() -> step("json", this::exerciseJson), workerExecutor)
+        );
+
+        try {
+            warmup.get(config.getDeadline().toMillis(), TimeUnit.MILLISECONDS);
+            state = "COMPLETE";
+        } catch (TimeoutException e) {
+            state = "DEADLINE_EXCEEDED";
+            log.warn("Warm-up did not finish within {}, accepting traffic anyway", config.getDeadline());
+        } catch (ExecutionException e) {
+            state = "COMPLETE";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state = "INTERRUPTED";
+        }
+
+        log.info("Warm-up {} after {}ms", state.toLowerCase(Locale.ROOT),
+                 TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    /**
+     * Overall state and per-step outcome and duration.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("state", state);
+        snapshot.put("steps", new LinkedHashMap<>(steps));
+        return snapshot;
+    }
+
+    private void step(String name, Runnable work) {
+        long start = System.nanoTime();
+        Map<String, Object> outcome = new LinkedHashMap<>();
+        try {
+            CallPriority.BACKGROUND.run(() -> {
+                work.run();
+                return null;
+            });
+            outcome.put("status", "OK");
+        } catch (RuntimeException e) {
+            // A failed step only means the first real request pays for it
+            log.warn("Warm-up step {} failed: {}", name, e.getMessage());
+            outcome.put("status", "FAILED");
+            outcome.put("error", e.getMessage());
+        }
+        outcome.put("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        steps.put(name, outcome);
+    }
+
+    private void initializeConnections() {
+        for (McpClientPool.Member member : clientPool.members()) {
+            McpSyncClient client = member.getClient();
+            try {
+                if (!client.isInitialized()) {
+                    client.initialize();
+                }
+                client.ping();
+            } catch (RuntimeException e) {
+                log.warn("Could not warm MCP connection {}: {}", member.getName(), e.getMessage());
+            }
+        }
+    }
+
+    private void prefetchPortfolio() {
+        Object stocks = ToolPayload.valueOf(mcpService.listAllStocks());
+        mcpService.calculatePortfolioValue();
+        if (!config.isPrefetchQuotes() || !(stocks instanceof List<?> positions)) {
+            return;
+        }
+        List<String> symbols = positions.stream()
+            .filter(Map.class::isInstance)
+            .map(position -> ((Map<?, ?>) position).get("symbol"))
+            .filter(Objects::nonNull)
+            .map(String::valueOf)
+            .limit(quoteConfig.getMaxSymbols())
+            .toList();
+        if (!symbols.isEmpty()) {
+            mcpService.fetchRealtimeQuotes(symbols);
+        }
+    }
+
+    private void exerciseJson() {
+        Map<String, String> samples = Map.of(
+            McpTools.FETCH_REALTIME_QUOTE, SAMPLE_QUOTE,
+            McpTools.GET_HISTORICAL_DATA, SAMPLE_SERIES,
+            McpTools.SEARCH_STOCK_SYMBOLS, SAMPLE_SEARCH,
+            McpTools.LIST_ALL_STOCKS, SAMPLE_POSITIONS
+        );
+        try {
+            for (int i = 0; i < config.getJsonIterations(); i++) {
+                for (Map.Entry<String, String> sample : samples.entrySet()) {
+                    // Unmetered, so synthetic samples don't end up in the decode timers
+                    Object decoded = resultDecoder.decodeUnmetered(sample.getKey(), sample.getValue());
+                    objectMapper.writeValueAsString(decoded);
+                    objectMapper.writeValueAsString(resultDecoder.payload(sample.getKey(), sample.getValue()));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Sample payload could not be serialized", e);
+        }
+    }
+}
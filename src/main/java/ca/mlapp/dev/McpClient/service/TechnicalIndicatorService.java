@@ -0,0 +1,187 @@
+package ca.mlapp.dev.McpClient.service;
+
+import ca.mlapp.dev.McpClient.config.McpIndicatorConfig;
+import ca.mlapp.dev.McpClient.dto.twelvedata.TimeSeriesResponseDTO;
+import ca.mlapp.dev.McpClient.service.indicator.IndicatorSeriesState;
+import ca.mlapp.dev.McpClient.service.indicator.IndicatorStateStore;
+import ca.mlapp.dev.McpClient.service.indicator.StreamingIndicator;
+import ca.mlapp.dev.McpClient.service.mcp.ToolPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Technical indicators for the /api/market/indicators endpoints. By default they are computed
+ * locally from a single cached get-historical-data series, which costs one upstream call per
+ * symbol and interval instead of one per indicator. The response keeps the shape of the
+ * indicator tools: {@code technicalAnalysis["Technical Analysis: X"][date]}, newest first.
+ * Each indicator is kept as streaming state per symbol and interval, so a new bar costs one
+ * constant-time step rather than a recompute over the whole window. If the series is too
+ * short for the requested indicator the tool is called instead.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TechnicalIndicatorService {
+
+    private static final int DEFAULT_MA_PERIOD = 20;
+    private static final int DEFAULT_RSI_PERIOD = 14;
+    private static final int MACD_FAST = 12;
+    private static final int MACD_SLOW = 26;
+    private static final int MACD_SIGNAL = 9;
+    private static final double BBANDS_DEVIATIONS = 2.0;
+
+    private final McpClientService mcpService;
+    private final McpIndicatorConfig config;
+    private final IndicatorStateStore stateStore;
+
+    public Object getSMA(String symbol, Integer timePeriod, String interval, String seriesType) {
+        if (!config.isLocal()) {
+            return mcpService.getSMA(symbol, timePeriod, interval, seriesType);
+        }
+        int period = timePeriod != null ? timePeriod : DEFAULT_MA_PERIOD;
+        IndicatorSeriesState state = loadState(symbol, interval);
+        if (state.size() < period) {
+            return mcpService.getSMA(symbol, timePeriod, interval, seriesType);
+        }
+        IndicatorSeriesState.Column column = IndicatorSeriesState.Column.of(seriesType);
+        IndicatorSeriesState.Rendered sma = state.render("SMA:" + period + ":" + column, column,
+                                                         () -> StreamingIndicator.sma(period));
+        return response(symbol, "Simple Moving Average (SMA)", "SMA", interval, period, seriesType, sma, "SMA");
+    }
+
+    public Object getEMA(String symbol, Integer timePeriod, String interval, String seriesType) {
+        if (!config.isLocal()) {
+            return mcpService.getEMA(symbol, timePeriod, interval, seriesType);
+        }
+        int period = timePeriod != null ? timePeriod : DEFAULT_MA_PERIOD;
+        IndicatorSeriesState state = loadState(symbol, interval);
+        if (state.size() < period) {
+            return mcpService.getEMA(symbol, timePeriod, interval, seriesType);
+        }
+        IndicatorSeriesState.Column column = IndicatorSeriesState.Column.of(seriesType);
+        IndicatorSeriesState.Rendered ema = state.render("EMA:" + period + ":" + column, column,
+                                                         () -> StreamingIndicator.ema(period));
+        return response(symbol, "Exponential Moving Average (EMA)", "EMA", interval, period, seriesType, ema, "EMA");
+    }
+
+    public Object getRSI(String symbol, Integer timePeriod, String interval, String seriesType) {
+        if (!config.isLocal()) {
+            return mcpService.getRSI(symbol, timePeriod, interval, seriesType);
+        }
+        int period = timePeriod != null ? timePeriod : DEFAULT_RSI_PERIOD;
+        IndicatorSeriesState state = loadState(symbol, interval);
+        if (state.size() <= period) {
+            return mcpService.getRSI(symbol, timePeriod, interval, seriesType);
+        }
+        IndicatorSeriesState.Column column = IndicatorSeriesState.Column.of(seriesType);
+        IndicatorSeriesState.Rendered rsi = state.render("RSI:" + period + ":" + column, column,
+                                                         () -> StreamingIndicator.rsi(period));
+        return response(symbol, "Relative Strength Index (RSI)", "RSI", interval, period, seriesType, rsi, "RSI");
+    }
+
+    public Object getMACD(String symbol, String interval, String seriesType) {
+        if (!config.isLocal()) {
+            return mcpService.getMACD(symbol, interval, seriesType);
+        }
+        IndicatorSeriesState state = loadState(symbol, interval);
+        if (state.size() < MACD_SLOW + MACD_SIGNAL - 1) {
+            return mcpService.getMACD(symbol, interval, seriesType);
+        }
+        IndicatorSeriesState.Column column = IndicatorSeriesState.Column.of(seriesType);
+        IndicatorSeriesState.Rendered macd = state.render("MACD:" + column, column,
+            () -> StreamingIndicator.macd(MACD_FAST, MACD_SLOW, MACD_SIGNAL));
+        return response(symbol, "Moving Average Convergence/Divergence (MACD)", "MACD", interval, null, seriesType,
+                        macd, "MACD", "MACD_Signal", "MACD_Hist");
+    }
+
+    public Object getBollingerBands(String symbol, Integer timePeriod, String interval, String seriesType) {
+        if (!config.isLocal()) {
+            return mcpService.getBollingerBands(symbol, timePeriod, interval, seriesType);
+        }
+        int period = timePeriod != null ? timePeriod : DEFAULT_MA_PERIOD;
+        IndicatorSeriesState state = loadState(symbol, interval);
+        if (state.size() < period) {
+            return mcpService.getBollingerBands(symbol, timePeriod, interval, seriesType);
+        }
+        IndicatorSeriesState.Column column = IndicatorSeriesState.Column.of(seriesType);
+        IndicatorSeriesState.Rendered bands = state.render("BBANDS:" + period + ":" + column, column,
+            () -> StreamingIndicator.bollingerBands(period, BBANDS_DEVIATIONS));
+        return response(symbol, "Bollinger Bands (BBANDS)", "BBANDS", interval, period, seriesType, bands,
+                        "Real_Upper_Band", "Real_Middle_Band", "Real_Lower_Band");
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * The streaming state for the symbol's history, synced with the (usually cached) series.
+     * Only bars newer than the last committed one are processed.
+     */
+    private IndicatorSeriesState loadState(String symbol, String interval) {
+        String historicalInterval = historicalInterval(interval);
+        IndicatorSeriesState state = stateStore.state(symbol, historicalInterval);
+        Object result = ToolPayload.valueOf(
+            mcpService.getHistoricalData(symbol, historicalInterval, config.getOutputSize()));
+        if (result instanceof TimeSeriesResponseDTO timeSeries) {
+            state.sync(timeSeries);
+        } else {
+            log.debug("No usable time series for {}, falling back to the indicator tool", symbol);
+        }
+        return state;
+    }
+
+    /**
+     * The indicator tools take Alpha Vantage style intervals, get-historical-data takes
+     * TwelveData's.
+     */
+    private static String historicalInterval(String interval) {
+        if (interval == null) {
+            return "1day";
+        }
+        return switch (interval.toLowerCase(Locale.ROOT)) {
+            case "daily" -> "1day";
+            case "weekly" -> "1week";
+            case "monthly" -> "1month";
+            case "60min" -> "1h";
+            default -> interval;
+        };
+    }
+
+    private static Map<String, Object> response(String symbol, String indicatorName, String key, String interval,
+                                                Integer timePeriod, String seriesType,
+                                                IndicatorSeriesState.Rendered series, String... fields) {
+        double[][] columns = series.columns();
+        int size = series.dates().length;
+        Map<String, Map<String, String>> points = new LinkedHashMap<>();
+        for (int i = size - 1; i >= 0; i--) {
+            if (Double.isNaN(columns[0][i]) || Double.isNaN(columns[columns.length - 1][i])) {
+                break;
+            }
+            Map<String, String> point = new LinkedHashMap<>();
+            for (int c = 0; c < fields.length; c++) {
+                point.put(fields[c], String.format(Locale.ROOT, "%.4f", columns[c][i]));
+            }
+            points.put(series.dates()[i], point);
+        }
+
+        Map<String, Object> metaData = new LinkedHashMap<>();
+        metaData.put("symbol", symbol);
+        metaData.put("indicator", indicatorName);
+        metaData.put("lastRefreshed", size > 0 ? series.dates()[size - 1] : null);
+        metaData.put("interval", interval != null ? interval : "daily");
+        if (timePeriod != null) {
+            metaData.put("timePeriod", timePeriod);
+        }
+        metaData.put("seriesType", seriesType != null ? seriesType : "close");
+        metaData.put("source", "local");
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("metaData", metaData);
+        response.put("technicalAnalysis", Map.of("Technical Analysis: " + key, points));
+        return response;
+    }
+}
@@ -0,0 +1,230 @@
+package ca.mlapp.dev.McpClient.service.indicator;
+
+import ca.mlapp.dev.McpClient.dto.twelvedata.QuoteResponseDTO;
+import ca.mlapp.dev.McpClient.dto.twelvedata.TimeSeriesResponseDTO;
+import ca.mlapp.dev.McpClient.dto.twelvedata.TimeSeriesValueDTO;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Streaming indicator state for one symbol and interval. Completed bars are committed once
+ * and advance every tracked indicator in constant time; the newest bar is kept provisional,
+ * because TwelveData keeps revising it (and realtime quotes move it) until the next bar opens.
+ * Indicator values for the provisional bar are peeked, never committed.
+ */
+public final class IndicatorSeriesState {
+
+    public enum Column {
+        OPEN,
+        HIGH,
+        LOW,
+        CLOSE;
+
+        public static Column of(String seriesType) {
+            return seriesType == null ? CLOSE : switch (seriesType.toLowerCase(Locale.ROOT)) {
+                case "open" -> OPEN;
+                case "high" -> HIGH;
+                case "low" -> LOW;
+                default -> CLOSE;
+            };
+        }
+    }
+
+    private final int capacity;
+    private final String[] dates;
+    private final double[][] bars;
+    private final Map<String, Track> tracks = new LinkedHashMap<>();
+    private int size;
+    private int head;
+    private String provisionalDate;
+    private final double[] provisional = new double[Column.values().length];
+
+    public IndicatorSeriesState(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.dates = new String[this.capacity];
+        this.bars = new double[this.capacity][];
+    }
+
+    /**
+     * Bring the state up to date with a fetched series. Bars newer than the last committed one
+     * are appended; if the series no longer overlaps what was committed, the state is rebuilt.
+     */
+    public synchronized void sync(TimeSeriesResponseDTO series) {
+        List<TimeSeriesValueDTO> points = series != null ? series.getValues() : null;
+        if (points == null || points.isEmpty()) {
+            return;
+        }
+
+        // TwelveData lists the newest point first
+        String lastCommitted = size > 0 ? dateAt(size - 1) : null;
+        int start = points.size() - 1;
+        if (lastCommitted != null) {
+            int overlap = -1;
+            boolean matched = false;
+            for (int i = 0; i < points.size(); i++) {
+                String date = points.get(i).getDatetime();
+                if (date != null && date.compareTo(lastCommitted) <= 0) {
+                    overlap = i;
+                    matched = date.equals(lastCommitted);
+                    break;
+                }
+            }
+            if (matched) {
+                start = overlap - 1;
+            } else if (overlap == 0 || points.size() < size) {
+                // Older than what is held, or too short to replace it: nothing to learn
+                return;
+            } else {
+                reset();
+            }
+        }
+
+        for (int i = start; i >= 0; i--) {
+            TimeSeriesValueDTO point = points.get(i);
+            double[] bar = parse(point.getOpen(), point.getHigh(), point.getLow(), point.getClose());
+            if (bar != null && point.getDatetime() != null) {
+                offer(point.getDatetime(), bar);
+            }
+        }
+    }
+
+    /**
+     * Move the provisional bar with a realtime quote for the same interval.
+     */
+    public synchronized void onQuote(QuoteResponseDTO quote) {
+        double[] bar = parse(quote.getOpen(), quote.getHigh(), quote.getLow(), quote.getClose());
+        if (bar != null && quote.getDatetime() != null) {
+            offer(quote.getDatetime(), bar);
+        }
+    }
+
+    /**
+     * Committed plus provisional bars.
+     */
+    public synchronized int size() {
+        return size + (provisionalDate != null ? 1 : 0);
+    }
+
+    /**
+     * Values of an indicator for every held bar, oldest first, starting the indicator from the
+     * committed history the first time it is asked for.
+     */
+    public synchronized Rendered render(String key, Column column, Supplier<StreamingIndicator> factory) {
+        Track track = tracks.get(key);
+        if (track == null) {
+            track = new Track(factory.get(), column);
+            for (int i = 0; i < size; i++) {
+                track.append(i, bars[index(i)][column.ordinal()]);
+            }
+            tracks.put(key, track);
+        }
+
+        int n = size();
+        String[] outDates = new String[n];
+        double[][] columns = new double[track.indicator.width()][n];
+        for (int i = 0; i < size; i++) {
+            outDates[i] = dateAt(i);
+            for (int c = 0; c < columns.length; c++) {
+                columns[c][i] = track.values[c][index(i)];
+            }
+        }
+        if (provisionalDate != null) {
+            double[] out = new double[columns.length];
+            track.indicator.peek(provisional[column.ordinal()], out);
+            outDates[n - 1] = provisionalDate;
+            for (int c = 0; c < columns.length; c++) {
+                columns[c][n - 1] = out[c];
+            }
+        }
+        return new Rendered(outDates, columns);
+    }
+
+    private void offer(String date, double[] bar) {
+        if (provisionalDate != null && date.compareTo(provisionalDate) > 0) {
+            commit(provisionalDate, provisional.clone());
+        }
+        if (provisionalDate == null || date.compareTo(provisionalDate) >= 0) {
+            if (size == 0 || date.compareTo(dateAt(size - 1)) > 0) {
+                provisionalDate = date;
+                System.arraycopy(bar, 0, provisional, 0, provisional.length);
+            }
+        }
+    }
+
+    private void commit(String date, double[] bar) {
+        int slot;
+        if (size == capacity) {
+            slot = head;
+            head = (head + 1) % capacity;
+        } else {
+            slot = index(size);
+            size++;
+        }
+        dates[slot] = date;
+        bars[slot] = bar;
+        for (Track track : tracks.values()) {
+            track.append(slot, bar[track.column.ordinal()]);
+        }
+    }
+
+    private void reset() {
+        size = 0;
+        head = 0;
+        provisionalDate = null;
+        tracks.clear();
+    }
+
+    private int index(int i) {
+        return (head + i) % capacity;
+    }
+
+    private String dateAt(int i) {
+        return dates[index(i)];
+    }
+
+    private static double[] parse(String open, String high, String low, String close) {
+        try {
+            return new double[] {
+                Double.parseDouble(open), Double.parseDouble(high),
+                Double.parseDouble(low), Double.parseDouble(close)
+            };
+        } catch (NullPointerException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Indicator output for the held bars, oldest first, one array per indicator field.
+     */
+    public record Rendered(String[] dates, double[][] columns) {
+    }
+
+    private final class Track {
+        private final StreamingIndicator indicator;
+        private final Column column;
+        private final double[][] values;
+        private final double[] scratch;
+
+        private Track(StreamingIndicator indicator, Column column) {
+            this.indicator = indicator;
+            this.column = column;
+            this.values = new double[indicator.width()][capacity];
+            this.scratch = new double[indicator.width()];
+            for (double[] field : values) {
+                Arrays.fill(field, Double.NaN);
+            }
+        }
+
+        private void append(int slot, double value) {
+            indicator.append(value, scratch);
+            for (int c = 0; c < scratch.length; c++) {
+                values[c][slot] = scratch[c];
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package ca.mlapp.dev.McpClient.service.indicator;
+
+import ca.mlapp.dev.McpClient.config.McpIndicatorConfig;
+import ca.mlapp.dev.McpClient.dto.twelvedata.QuoteResponseDTO;
+import ca.mlapp.dev.McpClient.dto.twelvedata.TimeSeriesResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming indicator states per symbol and interval, bounded to the most recently used
+ * series. Fetched history and realtime quotes only advance states that already exist, so
+ * feeding them is free for symbols nobody has asked indicators for.
+ */
+@Component
+@Slf4j
+public class IndicatorStateStore {
+
+    /**
+     * Interval realtime quotes belong to
+     */
+    private static final String QUOTE_INTERVAL = "1day";
+
+    private final McpIndicatorConfig config;
+    private final LinkedHashMap<String, IndicatorSeriesState> states;
+
+    public IndicatorStateStore(McpIndicatorConfig config) {
+        this.config = config;
+        this.states = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IndicatorSeriesState> eldest) {
+                return size() > config.getMaxTrackedSeries();
+            }
+        };
+    }
+
+    public IndicatorSeriesState state(String symbol, String interval) {
+        synchronized (states) {
+            return states.computeIfAbsent(key(symbol, interval), k -> new IndicatorSeriesState(config.getOutputSize()));
+        }
+    }
+
+    public void onHistoricalData(String symbol, String interval, Object result) {
+        IndicatorSeriesState state = existing(symbol, interval);
+        if (state != null && result instanceof TimeSeriesResponseDTO series) {
+            state.sync(series);
+        }
+    }
+
+    public void onQuote(String symbol, Object result) {
+        IndicatorSeriesState state = existing(symbol, QUOTE_INTERVAL);
+        if (state != null && result instanceof QuoteResponseDTO quote) {
+            state.onQuote(quote);
+        }
+    }
+
+    /**
+     * Whether any state exists for the symbol and interval; lets callers skip decoding
+     * results nobody will consume.
+     */
+    public boolean isTracked(String symbol, String interval) {
+        return existing(symbol, interval) != null;
+    }
+
+    public boolean isQuoteTracked(String symbol) {
+        return isTracked(symbol, QUOTE_INTERVAL);
+    }
+
+    private IndicatorSeriesState existing(String symbol, String interval) {
+        if (symbol == null || interval == null) {
+            return null;
+        }
+        synchronized (states) {
+            return states.get(key(symbol, interval));
+        }
+    }
+
+    private static String key(String symbol, String interval) {
+        return symbol.trim().toUpperCase(Locale.ROOT) + '|' + interval;
+    }
+}
@@ -0,0 +1,304 @@
+package ca.mlapp.dev.McpClient.service.indicator;
+
+/**
+ * Constant-time streaming form of a technical indicator. Appending a bar advances the state by
+ * one step and produces the values a full recompute would, to within rounding (checked against
+ * the reference {@code TechnicalIndicators} by {@code StreamingIndicatorTest}); peeking
+ * computes the values for a provisional bar without changing the state.
+ */
+public interface StreamingIndicator {
+
+    /**
+     * Number of values produced per bar.
+     */
+    int width();
+
+    /**
+     * Commit a bar and write its values into {@code out} ({@code NaN} while warming up).
+     */
+    void append(double value, double[] out);
+
+    /**
+     * Write the values {@code value} would produce if appended, leaving the state unchanged.
+     */
+    void peek(double value, double[] out);
+
+    static StreamingIndicator sma(int period) {
+        return new RollingWindow(period, 0);
+    }
+
+    static StreamingIndicator ema(int period) {
+        return new Ema(period);
+    }
+
+    static StreamingIndicator rsi(int period) {
+        return new Rsi(period);
+    }
+
+    static StreamingIndicator macd(int fastPeriod, int slowPeriod, int signalPeriod) {
+        return new Macd(fastPeriod, slowPeriod, signalPeriod);
+    }
+
+    static StreamingIndicator bollingerBands(int period, double deviations) {
+        return new RollingWindow(period, deviations);
+    }
+
+    /**
+     * Running sum and sum of squared deviations over a ring buffer: the SMA when
+     * {@code deviations} is zero, otherwise upper, middle and lower Bollinger Band. The squared
+     * deviations are updated Welford-style rather than kept as a raw sum of squares, which loses
+     * the variance to cancellation when prices barely move.
+     */
+    final class RollingWindow implements StreamingIndicator {
+        private final int period;
+        private final double deviations;
+        private final double[] window;
+        private int count;
+        private int next;
+        private double sum;
+        private double squaredDeviations;
+        private int sinceResum;
+
+        private RollingWindow(int period, double deviations) {
+            this.period = Math.max(1, period);
+            this.deviations = deviations;
+            this.window = new double[this.period];
+        }
+
+        @Override
+        public int width() {
+            return deviations == 0 ? 1 : 3;
+        }
+
+        @Override
+        public void append(double value, double[] out) {
+            double nextSum = nextSum(value);
+            squaredDeviations = nextSquaredDeviations(value, nextSum);
+            window[next] = value;
+            next = (next + 1) % period;
+            count = Math.min(count + 1, period);
+            sum = nextSum;
+            write(count, sum, squaredDeviations, out);
+            // After writing, so this bar's values are exactly what peek gave for it
+            if (count == period && ++sinceResum == period) {
+                resum();
+            }
+        }
+
+        @Override
+        public void peek(double value, double[] out) {
+            double nextSum = nextSum(value);
+            write(count == period ? count : count + 1, nextSum, nextSquaredDeviations(value, nextSum), out);
+        }
+
+        /**
+         * Recompute both sums from the window once per period, so rounding from the updates
+         * can't build up over a long stream; amortized this is still constant time per bar.
+         */
+        private void resum() {
+            double exactSum = 0;
+            for (double v : window) {
+                exactSum += v;
+            }
+            double mean = exactSum / period;
+            double exactSquaredDeviations = 0;
+            for (double v : window) {
+                exactSquaredDeviations += (v - mean) * (v - mean);
+            }
+            sum = exactSum;
+            squaredDeviations = exactSquaredDeviations;
+            sinceResum = 0;
+        }
+
+        private double nextSum(double value) {
+            return count == period ? sum - window[next] + value : sum + value;
+        }
+
+        private double nextSquaredDeviations(double value, double nextSum) {
+            if (count < period) {
+                double mean = count > 0 ? sum / count : value;
+                return squaredDeviations + (value - mean) * (value - nextSum / (count + 1));
+            }
+            double evicted = window[next];
+            return squaredDeviations + (value - evicted) * (value - nextSum / period + evicted - sum / period);
+        }
+
+        private void write(int n, double s, double sq, double[] out) {
+            if (n < period) {
+                for (int i = 0; i < width(); i++) {
+                    out[i] = Double.NaN;
+                }
+                return;
+            }
+            double mean = s / period;
+            if (deviations == 0) {
+                out[0] = mean;
+                return;
+            }
+            double band = deviations * Math.sqrt(Math.max(0, sq / period));
+            out[0] = mean + band;
+            out[1] = mean;
+            out[2] = mean - band;
+        }
+    }
+
+    /**
+     * Recursive EMA, seeded with the simple average of its first period.
+     */
+    final class Ema implements StreamingIndicator {
+        private final int period;
+        private final double k;
+        private int count;
+        private double seedSum;
+        private double ema = Double.NaN;
+
+        private Ema(int period) {
+            this.period = Math.max(1, period);
+            this.k = 2.0 / (this.period + 1);
+        }
+
+        @Override
+        public int width() {
+            return 1;
+        }
+
+        @Override
+        public void append(double value, double[] out) {
+            out[0] = append(value);
+        }
+
+        @Override
+        public void peek(double value, double[] out) {
+            out[0] = peek(value);
+        }
+
+        double append(double value) {
+            if (count < period) {
+                seedSum += value;
+                if (++count == period) {
+                    ema = seedSum / period;
+                }
+                return ema;
+            }
+            ema += k * (value - ema);
+            return ema;
+        }
+
+        double peek(double value) {
+            if (count < period) {
+                return count + 1 == period ? (seedSum + value) / period : Double.NaN;
+            }
+            return ema + k * (value - ema);
+        }
+    }
+
+    /**
+     * RSI with Wilder smoothing of the average gain and loss.
+     */
+    final class Rsi implements StreamingIndicator {
+        private final int period;
+        private double previous = Double.NaN;
+        private int changes;
+        private double avgGain;
+        private double avgLoss;
+
+        private Rsi(int period) {
+            this.period = Math.max(1, period);
+        }
+
+        @Override
+        public int width() {
+            return 1;
+        }
+
+        @Override
+        public void append(double value, double[] out) {
+            if (Double.isNaN(previous)) {
+                previous = value;
+                out[0] = Double.NaN;
+                return;
+            }
+            double change = value - previous;
+            previous = value;
+            if (changes < period) {
+                // Until the first average exists the "averages" hold plain sums
+                avgGain += Math.max(change, 0);
+                avgLoss += Math.max(-change, 0);
+                if (++changes < period) {
+                    out[0] = Double.NaN;
+                    return;
+                }
+                avgGain /= period;
+                avgLoss /= period;
+            } else {
+                avgGain = (avgGain * (period - 1) + Math.max(change, 0)) / period;
+                avgLoss = (avgLoss * (period - 1) + Math.max(-change, 0)) / period;
+            }
+            out[0] = rsi(avgGain, avgLoss);
+        }
+
+        @Override
+        public void peek(double value, double[] out) {
+            if (Double.isNaN(previous) || changes + 1 < period) {
+                out[0] = Double.NaN;
+                return;
+            }
+            double change = value - previous;
+            double gain;
+            double loss;
+            if (changes < period) {
+                gain = (avgGain + Math.max(change, 0)) / period;
+                loss = (avgLoss + Math.max(-change, 0)) / period;
+            } else {
+                gain = (avgGain * (period - 1) + Math.max(change, 0)) / period;
+                loss = (avgLoss * (period - 1) + Math.max(-change, 0)) / period;
+            }
+            out[0] = rsi(gain, loss);
+        }
+
+        private static double rsi(double avgGain, double avgLoss) {
+            if (avgLoss == 0) {
+                return avgGain == 0 ? 50 : 100;
+            }
+            return 100 - 100 / (1 + avgGain / avgLoss);
+        }
+    }
+
+    /**
+     * MACD line, signal line and histogram from three recursive EMAs.
+     */
+    final class Macd implements StreamingIndicator {
+        private final Ema fast;
+        private final Ema slow;
+        private final Ema signal;
+
+        private Macd(int fastPeriod, int slowPeriod, int signalPeriod) {
+            this.fast = new Ema(fastPeriod);
+            this.slow = new Ema(slowPeriod);
+            this.signal = new Ema(signalPeriod);
+        }
+
+        @Override
+        public int width() {
+            return 3;
+        }
+
+        @Override
+        public void append(double value, double[] out) {
+            double macd = fast.append(value) - slow.append(value);
+            write(macd, Double.isNaN(macd) ? Double.NaN : signal.append(macd), out);
+        }
+
+        @Override
+        public void peek(double value, double[] out) {
+            double macd = fast.peek(value) - slow.peek(value);
+            write(macd, Double.isNaN(macd) ? Double.NaN : signal.peek(macd), out);
+        }
+
+        private static void write(double macd, double signal, double[] out) {
+            out[0] = macd;
+            out[1] = signal;
+            out[2] = macd - signal;
+        }
+    }
+}
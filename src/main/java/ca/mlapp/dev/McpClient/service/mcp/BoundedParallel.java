@@ -0,0 +1,39 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Fans a list of tasks out on an executor with at most {@code limit} running at once.
+ */
+public final class BoundedParallel {
+
+    private BoundedParallel() {
+    }
+
+    /**
+     * Start every task and return one future per item, in input order. Tasks inherit the
+     * caller's {@link CallPriority}.
+     */
+    public static <T, R> List<CompletableFuture<R>> map(List<T> items, int limit, Executor executor,
+                                                        Function<T, R> task) {
+        Semaphore permits = new Semaphore(Math.max(1, limit));
+        CallPriority priority = CallPriority.current();
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    return priority.run(() -> task.apply(item));
+                } finally {
+                    permits.release();
+                }
+            }, executor));
+        }
+        return futures;
+    }
+}
@@ -0,0 +1,50 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Canonical string keys for MCP calls: argument names sorted, strings trimmed and
+ * symbols upper-cased, so equivalent calls map to the same key.
+ */
+public final class CallKey {
+
+    private CallKey() {
+    }
+
+    public static String of(String kind, String name, Map<String, Object> args) {
+        String canonicalArgs = canonicalArgs(args);
+        return canonicalArgs.isEmpty() ? kind + ':' + name : kind + ':' + name + '?' + canonicalArgs;
+    }
+
+    public static String canonicalArgs(Map<String, Object> args) {
+        if (args == null || args.isEmpty()) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder();
+        for (Map.Entry<String, Object> arg : new TreeMap<>(args).entrySet()) {
+            if (arg.getValue() == null) {
+                continue;
+            }
+            if (!key.isEmpty()) {
+                key.append('&');
+            }
+            key.append(arg.getKey()).append('=').append(canonicalValue(arg.getKey(), arg.getValue()));
+        }
+        return key.toString();
+    }
+
+    public static String symbolOf(Map<String, Object> args) {
+        Object symbol = args != null ? args.get("symbol") : null;
+        return symbol != null ? symbol.toString().trim().toUpperCase(Locale.ROOT) : null;
+    }
+
+    private static String canonicalValue(String name, Object value) {
+        if (value instanceof String text) {
+            text = text.trim();
+            return "symbol".equals(name) ? text.toUpperCase(Locale.ROOT) : text;
+        }
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,32 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import java.util.function.Supplier;
+
+/**
+ * Priority of the MCP calls made by the current thread. Request threads are interactive by
+ * default; schedulers and warm-up jobs mark their work as background so it yields scarce
+ * upstream capacity to users.
+ */
+public enum CallPriority {
+    INTERACTIVE,
+    BACKGROUND;
+
+    private static final ThreadLocal<CallPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    public static CallPriority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run the call on this thread with this priority, restoring the previous one afterwards.
+     */
+    public <T> T run(Supplier<T> call) {
+        CallPriority previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return call.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+}
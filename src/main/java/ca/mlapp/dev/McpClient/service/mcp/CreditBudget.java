@@ -0,0 +1,157 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import ca.mlapp.dev.McpClient.config.McpCreditConfig;
+import ca.mlapp.dev.McpClient.exception.CreditBudgetExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client-side view of the TwelveData credit quota: a token bucket refilled at the per-minute
+ * limit plus a daily counter that is periodically re-seeded from get-api-usage. Interactive
+ * calls may wait briefly for a credit; background calls never wait, never take a credit while
+ * an interactive call is waiting, and stay out of the reserved share of the daily budget.
+ */
+@Component
+@Slf4j
+public class CreditBudget {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final McpCreditConfig config;
+    private final AtomicInteger interactiveWaiters = new AtomicInteger();
+
+    private double minuteTokens;
+    private long lastRefill;
+    private LocalDate day;
+    private long usedToday;
+    private long dailyLimit;
+
+    public CreditBudget(McpCreditConfig config) {
+        this.config = config;
+        this.minuteTokens = config.getPerMinuteLimit();
+        this.lastRefill = System.nanoTime();
+        this.day = LocalDate.now(ZoneOffset.UTC);
+        this.dailyLimit = config.getDailyLimit();
+    }
+
+    public int costOf(String toolName) {
+        return config.getCosts().getOrDefault(toolName, 0);
+    }
+
+    /**
+     * Take the credits a call to this tool costs, or throw if the budget can't cover it.
+     */
+    public void acquire(String toolName) {
+        int cost = costOf(toolName);
+        if (!config.isEnabled() || cost <= 0) {
+            return;
+        }
+
+        if (CallPriority.current() == CallPriority.BACKGROUND) {
+            if (!tryTake(cost, true)) {
+                throw new CreditBudgetExceededException("Background call to " + toolName
+                    + " deferred to preserve API credits for interactive use");
+            }
+            return;
+        }
+
+        long deadline = System.nanoTime() + config.getMaxWait().toNanos();
+        interactiveWaiters.incrementAndGet();
+        try {
+            while (true) {
+                long waitNanos;
+                synchronized (this) {
+                    if (tryTake(cost, false)) {
+                        return;
+                    }
+                    if (remainingToday() < cost) {
+                        throw new CreditBudgetExceededException("Daily API credit limit of " + dailyLimit + " reached");
+                    }
+                    waitNanos = (long) ((cost - minuteTokens) * NANOS_PER_MINUTE / config.getPerMinuteLimit());
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new CreditBudgetExceededException("Per-minute API credit limit of "
+                        + config.getPerMinuteLimit() + " reached");
+                }
+                TimeUnit.NANOSECONDS.sleep(Math.max(1_000_000L, Math.min(waitNanos, remaining)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CreditBudgetExceededException("Interrupted while waiting for an API credit");
+        } finally {
+            interactiveWaiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Align the daily counter with the server's own accounting.
+     */
+    public synchronized void seed(long requestsToday, long limit) {
+        rollDay();
+        usedToday = requestsToday;
+        if (limit > 0) {
+            dailyLimit = limit;
+        }
+        log.debug("Credit budget seeded: {}/{} used today", usedToday, dailyLimit);
+    }
+
+    public synchronized Map<String, Object> snapshot() {
+        refill();
+        rollDay();
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", config.isEnabled());
+        snapshot.put("usedToday", usedToday);
+        snapshot.put("dailyLimit", dailyLimit);
+        snapshot.put("remainingToday", remainingToday());
+        snapshot.put("minuteCreditsAvailable", (int) minuteTokens);
+        snapshot.put("perMinuteLimit", config.getPerMinuteLimit());
+        snapshot.put("interactiveWaiters", interactiveWaiters.get());
+        return snapshot;
+    }
+
+    private synchronized boolean tryTake(int cost, boolean background) {
+        refill();
+        rollDay();
+        long remaining = remainingToday();
+        if (remaining < cost || minuteTokens < cost) {
+            return false;
+        }
+        if (background) {
+            long reserve = (long) Math.ceil(dailyLimit * config.getBackgroundReserve());
+            if (remaining - cost < reserve || interactiveWaiters.get() > 0) {
+                return false;
+            }
+        }
+        minuteTokens -= cost;
+        usedToday += cost;
+        return true;
+    }
+
+    private long remainingToday() {
+        return dailyLimit - usedToday;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double refilled = (double) (now - lastRefill) * config.getPerMinuteLimit() / NANOS_PER_MINUTE;
+        minuteTokens = Math.min(config.getPerMinuteLimit(), minuteTokens + refilled);
+        lastRefill = now;
+    }
+
+    private void rollDay() {
+        // TwelveData resets daily usage at midnight UTC
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        if (!today.equals(day)) {
+            day = today;
+            usedToday = 0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import ca.mlapp.dev.McpClient.config.McpCreditConfig;
+import ca.mlapp.dev.McpClient.service.McpClientService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Periodically re-seeds the {@link CreditBudget} from get-api-usage, so credits spent by other
+ * clients of the same TwelveData key are accounted for. The first seed happens at startup,
+ * before the warm-up runs, so a restart late in the day doesn't assume nothing has been spent.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CreditBudgetSynchronizer {
+
+    private final McpClientService mcpService;
+    private final CreditBudget creditBudget;
+    private final McpCreditConfig config;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void seedOnStartup() {
+        resync();
+    }
+
+    @Scheduled(initialDelayString = "${mcp.credits.resync-interval:PT5M}",
+               fixedDelayString = "${mcp.credits.resync-interval:PT5M}")
+    public void resync() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            Object usage = ToolPayload.valueOf(CallPriority.BACKGROUND.run(mcpService::getApiUsage));
+            if (usage instanceof Map<?, ?> map
+                    && map.get("requestsToday") instanceof Number requestsToday
+                    && map.get("dailyLimit") instanceof Number dailyLimit) {
+                creditBudget.seed(requestsToday.longValue(), dailyLimit.longValue());
+            } else {
+                log.debug("Unexpected get-api-usage result, credit budget not re-seeded: {}", usage);
+            }
+        } catch (Exception e) {
+            log.warn("Could not re-seed credit budget from get-api-usage: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import ca.mlapp.dev.McpClient.config.McpCatalogConfig;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * In-memory catalog of the tools, prompts and resources offered by the MCP server. Each list
+ * is loaded on first use and replaced when the server sends a list-changed notification, with
+ * a configurable max age as a fallback. A list that can't be reloaded once it is too old keeps
+ * being served, so a server blip doesn't fail listings or tool name checks.
+ */
+@Component
+@Slf4j
+public class McpCapabilityCatalog {
+
+    /**
+     * How long a list that failed to reload is served before the next attempt
+     */
+    private static final long RETRY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final McpCatalogConfig config;
+    private final Snapshot<McpSchema.Tool> tools;
+    private final Snapshot<McpSchema.Prompt> prompts;
+    private final Snapshot<McpSchema.Resource> resources;
+
+    public McpCapabilityCatalog(McpClientPool clientPool, McpCatalogConfig config) {
+        this.config = config;
+        this.tools = new Snapshot<>("tools", () ->
+            clientPool.execute("list-tools", McpSyncClient::listTools).tools());
+        this.prompts = new Snapshot<>("prompts", () ->
+            clientPool.execute("list-prompts", McpSyncClient::listPrompts).prompts());
+        this.resources = new Snapshot<>("resources", () ->
+            clientPool.execute("list-resources", McpSyncClient::listResources).resources());
+    }
+
+    public List<McpSchema.Tool> getTools() {
+        return tools.get();
+    }
+
+    public List<McpSchema.Prompt> getPrompts() {
+        return prompts.get();
+    }
+
+    public List<McpSchema.Resource> getResources() {
+        return resources.get();
+    }
+
+    /**
+     * Sizes of the lists currently held, without loading or refreshing any of them.
+     */
+    public Counts counts() {
+        return new Counts(tools.size(), prompts.size(), resources.size());
+    }
+
+    public boolean hasTool(String toolName) {
+        return getTools().stream().anyMatch(tool -> tool.name().equals(toolName));
+    }
+
+    /**
+     * Reload every list from the server.
+     */
+    public void refresh() {
+        tools.reload();
+        prompts.reload();
+        resources.reload();
+    }
+
+    @EventListener
+    @SuppressWarnings("unchecked")
+    public void onListChanged(McpListChangedEvent event) {
+        switch (event.kind()) {
+            case TOOLS -> tools.replace((List<McpSchema.Tool>) event.items());
+            case PROMPTS -> prompts.replace((List<McpSchema.Prompt>) event.items());
+            case RESOURCES -> resources.replace((List<McpSchema.Resource>) event.items());
+        }
+    }
+
+    private final class Snapshot<T> {
+        private final String name;
+        private final Supplier<List<T>> loader;
+        private volatile List<T> items;
+        private volatile long expiresAt;
+
+        private Snapshot(String name, Supplier<List<T>> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        List<T> get() {
+            List<T> current = items;
+            if (current != null && !isExpired()) {
+                return current;
+            }
+            synchronized (this) {
+                if (items == null) {
+                    reload();
+                } else if (isExpired()) {
+                    try {
+                        reload();
+                    } catch (RuntimeException e) {
+                        log.warn("Could not reload MCP {} catalog, serving the previous one: {}", name, e.getMessage());
+                        expiresAt = System.nanoTime() + Math.min(RETRY_NANOS, config.getMaxAge().toNanos());
+                    }
+                }
+                return items;
+            }
+        }
+
+        int size() {
+            List<T> current = items;
+            return current != null ? current.size() : 0;
+        }
+
+        synchronized void reload() {
+            log.debug("Loading MCP {} catalog", name);
+            replace(loader.get());
+        }
+
+        void replace(List<T> updated) {
+            items = updated != null ? List.copyOf(updated) : List.of();
+            expiresAt = System.nanoTime() + config.getMaxAge().toNanos();
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+
+    public record Counts(int tools, int prompts, int resources) {
+    }
+}
@@ -0,0 +1,239 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import ca.mlapp.dev.McpClient.config.McpPoolConfig;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Spreads MCP calls across every configured {@link McpSyncClient} connection.
+ * Members that keep failing are ejected for a back-off period and re-admitted
+ * automatically once it expires. Only connection failures count toward ejection; an error
+ * reply from the server does not.
+ */
+@Component
+@Slf4j
+public class McpClientPool {
+
+    private final List<Member> members;
+    private final McpPoolConfig config;
+    private final McpMetrics metrics;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public McpClientPool(List<McpSyncClient> mcpClients, McpPoolConfig config, McpMetrics metrics) {
+        this.config = config;
+        this.metrics = metrics;
+        List<Member> pooled = new ArrayList<>();
+        if (mcpClients != null) {
+            for (McpSyncClient client : mcpClients) {
+                Member member = new Member(connectionName(client, pooled.size()), client);
+                metrics.inFlight(member.name, member, Member::getOutstanding);
+                pooled.add(member);
+            }
+        }
+        this.members = List.copyOf(pooled);
+        log.info("MCP client pool initialized with {} connection(s) using {} selection",
+                 members.size(), config.getStrategy());
+    }
+
+    /**
+     * Run a call against the best available connection. The operation (a tool, prompt or
+     * resource kind, or a protocol request) names the call in metrics.
+     */
+    public <T> T execute(String operation, Function<McpSyncClient, T> call) {
+        return execute(select(), operation, call);
+    }
+
+    <T> T execute(Member member, String operation, Function<McpSyncClient, T> call) {
+        McpMetrics.CallMeters meters = member.meters(operation);
+        member.outstanding.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            T result = call.apply(member.client);
+            long elapsed = System.nanoTime() - start;
+            member.recordSuccess(elapsed);
+            meters.success().record(elapsed, TimeUnit.NANOSECONDS);
+            long payloadBytes = McpMetrics.payloadBytes(result);
+            if (payloadBytes >= 0) {
+                meters.payload().record(payloadBytes);
+            }
+            if (result instanceof McpSchema.CallToolResult toolResult && Boolean.TRUE.equals(toolResult.isError())) {
+                metrics.error(member.name, operation, "ToolError");
+            }
+            return result;
+        } catch (RuntimeException e) {
+            long elapsed = System.nanoTime() - start;
+            meters.failure().record(elapsed, TimeUnit.NANOSECONDS);
+            metrics.error(member.name, operation, e);
+            if (McpFailures.isConnectionFailure(e)) {
+                member.recordFailure();
+            } else {
+                // The connection delivered the server's error reply, so as far as the pool is
+                // concerned it worked
+                member.recordSuccess(elapsed);
+            }
+            throw e;
+        } finally {
+            member.outstanding.decrementAndGet();
+        }
+    }
+
+    public List<Member> members() {
+        return members;
+    }
+
+    /**
+     * The best available connection other than the given one, or that one if it is the only
+     * healthy choice. Used to send a hedged attempt somewhere else.
+     */
+    Member selectOther(Member excluded) {
+        long now = System.nanoTime();
+        Member best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (Member candidate : members) {
+            if (candidate == excluded || candidate.isEjected(now)) {
+                continue;
+            }
+            double score = score(candidate);
+            if (score < bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        return best != null ? best : excluded;
+    }
+
+    Member select() {
+        if (members.isEmpty()) {
+            throw new IllegalStateException("No MCP clients configured");
+        }
+        if (members.size() == 1) {
+            return members.get(0);
+        }
+
+        long now = System.nanoTime();
+        int offset = Math.floorMod(cursor.getAndIncrement(), members.size());
+        Member best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (int i = 0; i < members.size(); i++) {
+            Member candidate = members.get((offset + i) % members.size());
+            if (candidate.isEjected(now)) {
+                continue;
+            }
+            double score = score(candidate);
+            if (score < bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+
+        if (best == null) {
+            // Every member is ejected: fall back to the one closest to re-admission
+            best = members.get(0);
+            for (Member candidate : members) {
+                if (candidate.ejectedUntil - best.ejectedUntil < 0) {
+                    best = candidate;
+                }
+            }
+            log.warn("All MCP connections are ejected, routing to {}", best.name);
+        }
+        return best;
+    }
+
+    private double score(Member member) {
+        int outstanding = member.outstanding.get();
+        return switch (config.getStrategy()) {
+            case LEAST_OUTSTANDING -> outstanding;
+            case LATENCY_WEIGHTED -> member.latencyNanos * (outstanding + 1);
+        };
+    }
+
+    private static String connectionName(McpSyncClient client, int index) {
+        // Spring AI names clients "<client-name> - <connection-name>"
+        if (client.getClientInfo() != null && client.getClientInfo().name() != null) {
+            String name = client.getClientInfo().name();
+            int separator = name.lastIndexOf(" - ");
+            return separator >= 0 ? name.substring(separator + 3) : name;
+        }
+        return "connection-" + index;
+    }
+
+    public final class Member {
+        private final String name;
+        private final McpSyncClient client;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final Map<String, McpMetrics.CallMeters> meters = new ConcurrentHashMap<>();
+        private volatile double latencyNanos;
+        private volatile long ejectedUntil;
+        private volatile boolean ejected;
+        private int ejections;
+
+        private Member(String name, McpSyncClient client) {
+            this.name = name;
+            this.client = client;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public McpSyncClient getClient() {
+            return client;
+        }
+
+        public int getOutstanding() {
+            return outstanding.get();
+        }
+
+        public double getLatencyMillis() {
+            return latencyNanos / 1_000_000.0;
+        }
+
+        public boolean isEjected() {
+            return isEjected(System.nanoTime());
+        }
+
+        private McpMetrics.CallMeters meters(String operation) {
+            McpMetrics.CallMeters held = meters.get(operation);
+            return held != null ? held : meters.computeIfAbsent(operation, op -> metrics.callMeters(name, op));
+        }
+
+        private boolean isEjected(long now) {
+            return ejected && now - ejectedUntil < 0;
+        }
+
+        private synchronized void recordSuccess(long elapsedNanos) {
+            double decay = config.getLatencyDecay();
+            latencyNanos = latencyNanos == 0 ? elapsedNanos : latencyNanos + decay * (elapsedNanos - latencyNanos);
+            consecutiveFailures.set(0);
+            if (ejected) {
+                log.info("MCP connection {} re-admitted to the pool", name);
+                ejected = false;
+                ejections = 0;
+            }
+        }
+
+        private synchronized void recordFailure() {
+            // A member on probation after an ejection is sent straight back out
+            if (!ejected && consecutiveFailures.incrementAndGet() < config.getFailureThreshold()) {
+                return;
+            }
+            consecutiveFailures.set(0);
+            ejections = Math.min(ejections + 1, config.getMaxEjectionMultiplier());
+            ejectedUntil = System.nanoTime() + config.getEjectionDuration().toNanos() * ejections;
+            ejected = true;
+            log.warn("MCP connection {} ejected from the pool for {}s",
+                     name, config.getEjectionDuration().toSeconds() * ejections);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+/**
+ * Published when a connection answers its health ping again after having been reported down.
+ * Anything the server held for this client (such as resource subscriptions) may have been
+ * lost with the old session.
+ */
+public record McpConnectionRecoveredEvent(String connectionName) {
+}
@@ -0,0 +1,27 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import io.modelcontextprotocol.spec.McpError;
+
+/**
+ * Tells failures of the connection apart from errors the server answered with. A JSON-RPC error
+ * (unknown tool arguments, a resource that doesn't exist) means the server is up and the request
+ * was at fault, so it says nothing about the health of the connection or the operation.
+ */
+public final class McpFailures {
+
+    private McpFailures() {
+    }
+
+    /**
+     * Whether the call failed on its way to or from the server (timeouts, transport and I/O
+     * errors) rather than with an error reply from it.
+     */
+    public static boolean isConnectionFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof McpError) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
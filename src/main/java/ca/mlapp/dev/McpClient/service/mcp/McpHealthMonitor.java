@@ -0,0 +1,252 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import ca.mlapp.dev.McpClient.config.McpHealthConfig;
+import ca.mlapp.dev.McpClient.dto.response.HealthResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pings every MCP connection on its own scheduler thread and keeps rolling latency and error
+ * statistics per connection. Probes read the state left by the last round instead of calling the server, so
+ * they cost nothing upstream and never wait on a slow one. Pings go through the pool, so a
+ * connection that stops answering them is ejected before user calls run into it.
+ */
+@Component
+@Slf4j
+public class McpHealthMonitor {
+
+    private final McpClientPool clientPool;
+    private final McpCapabilityCatalog catalog;
+    private final McpHealthConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor workerExecutor;
+    private final Map<String, ConnectionHealth> connections = new ConcurrentHashMap<>();
+    // Not the shared Spring scheduler: a dashboard poll stuck on a slow call or the credit wait
+    // would delay pings past stale-after and report MCP down for our own backlog
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("mcp-health").daemon().factory());
+    private volatile Status status = Status.UNKNOWN;
+    private volatile Instant lastRound;
+
+    public McpHealthMonitor(McpClientPool clientPool, McpCapabilityCatalog catalog, McpHealthConfig config,
+                            ApplicationEventPublisher eventPublisher,
+                            @Qualifier("mcpWorkerExecutor") Executor workerExecutor) {
+        this.clientPool = clientPool;
+        this.catalog = catalog;
+        this.config = config;
+        this.eventPublisher = eventPublisher;
+        this.workerExecutor = workerExecutor;
+    }
+
+    public enum Status {
+        UNKNOWN,
+        UP,
+        DOWN
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::pingAll, 0, config.getPingInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public void pingAll() {
+        try {
+            pingRound();
+        } catch (RuntimeException e) {
+            // An exception would cancel the fixed-delay schedule
+            log.warn("MCP health check round failed: {}", e.getMessage());
+        }
+    }
+
+    private void pingRound() {
+        List<McpClientPool.Member> members = clientPool.members();
+        List<CompletableFuture<Void>> pings = members.stream()
+            .map(member -> CompletableFuture.runAsync(() -> ping(member), workerExecutor))
+            .toList();
+        CompletableFuture.allOf(pings.toArray(CompletableFuture[]::new)).join();
+
+        Instant now = Instant.now();
+        boolean anyUp = connections.values().stream().anyMatch(connection -> connection.isUp(now));
+        Status previous = status;
+        status = anyUp ? Status.UP : Status.DOWN;
+        lastRound = now;
+        if (previous != status) {
+            log.info("MCP health changed from {} to {}", previous, status);
+        }
+    }
+
+    /**
+     * Outcome of the last ping round; never calls the server.
+     */
+    public Status status() {
+        return status;
+    }
+
+    public boolean isUp() {
+        return status == Status.UP;
+    }
+
+    /**
+     * Health summary in the shape of the former listing-based check, with capability counts
+     * taken from the catalog as currently held.
+     */
+    public HealthResponse health() {
+        McpCapabilityCatalog.Counts counts = catalog.counts();
+        return switch (status) {
+            case UP -> new HealthResponse("UP", "MCP Client is connected and operational", true,
+                                          counts.tools(), counts.prompts(), counts.resources());
+            case DOWN -> new HealthResponse("DOWN", "No MCP connection answered its recent pings", false,
+                                            counts.tools(), counts.prompts(), counts.resources());
+            case UNKNOWN -> new HealthResponse("UNKNOWN", "MCP connections have not been checked yet", false,
+                                               counts.tools(), counts.prompts(), counts.resources());
+        };
+    }
+
+    /**
+     * Per-connection state, latency and error statistics for operators.
+     */
+    public Map<String, Object> details() {
+        Instant now = Instant.now();
+        Map<String, Object> connectionDetails = new LinkedHashMap<>();
+        connections.values().forEach(connection -> connectionDetails.put(connection.name, connection.snapshot(now)));
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("status", status.name());
+        details.put("lastCheck", lastRound != null ? lastRound.toString() : null);
+        details.put("connections", connectionDetails);
+        return details;
+    }
+
+    private void ping(McpClientPool.Member member) {
+        ConnectionHealth connection = connections.computeIfAbsent(member.getName(), ConnectionHealth::new);
+        long start = System.nanoTime();
+        CompletableFuture<Object> ping = CompletableFuture.supplyAsync(
+            () -> clientPool.execute(member, "ping", client -> client.ping()), workerExecutor);
+        try {
+            ping.get(config.getPingTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            if (connection.success(System.nanoTime() - start)) {
+                log.info("MCP connection {} recovered", member.getName());
+                eventPublisher.publishEvent(new McpConnectionRecoveredEvent(member.getName()));
+            }
+        } catch (TimeoutException e) {
+            connection.failure("Ping timed out after " + config.getPingTimeout().toMillis() + "ms");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            connection.failure(cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private final class ConnectionHealth {
+        private final String name;
+        private final long[] latencies = new long[Math.max(1, config.getWindow())];
+        private final boolean[] failed = new boolean[latencies.length];
+        private int count;
+        private int index;
+        private int consecutiveFailures;
+        private long pings;
+        private long failures;
+        private Instant lastSuccess;
+        private Instant lastFailure;
+        private String lastError;
+
+        private ConnectionHealth(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Record a successful ping; true if the connection had been up before and was down.
+         */
+        synchronized boolean success(long elapsedNanos) {
+            Instant now = Instant.now();
+            boolean recovered = lastSuccess != null && !isUp(now);
+            record(elapsedNanos, false);
+            consecutiveFailures = 0;
+            lastSuccess = now;
+            return recovered;
+        }
+
+        synchronized void failure(String error) {
+            record(0, true);
+            consecutiveFailures++;
+            failures++;
+            lastFailure = Instant.now();
+            lastError = error;
+            log.debug("MCP connection {} failed its ping: {}", name, error);
+        }
+
+        synchronized boolean isUp(Instant now) {
+            return lastSuccess != null && consecutiveFailures < config.getUnhealthyAfter()
+                && Duration.between(lastSuccess, now).compareTo(config.getStaleAfter()) <= 0;
+        }
+
+        synchronized Map<String, Object> snapshot(Instant now) {
+            long[] succeeded = new long[count];
+            int n = 0;
+            int recentFailures = 0;
+            for (int i = 0; i < count; i++) {
+                if (failed[i]) {
+                    recentFailures++;
+                } else {
+                    succeeded[n++] = latencies[i];
+                }
+            }
+            long[] sorted = Arrays.copyOf(succeeded, n);
+            Arrays.sort(sorted);
+
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("status", isUp(now) ? "UP" : "DOWN");
+            snapshot.put("pings", pings);
+            snapshot.put("failures", failures);
+            snapshot.put("consecutiveFailures", consecutiveFailures);
+            snapshot.put("recentErrorRate", count > 0 ? (double) recentFailures / count : 0.0);
+            snapshot.put("p50Ms", percentileMillis(sorted, 0.5));
+            snapshot.put("p99Ms", percentileMillis(sorted, 0.99));
+            snapshot.put("lastSuccess", lastSuccess != null ? lastSuccess.toString() : null);
+            snapshot.put("lastFailure", lastFailure != null ? lastFailure.toString() : null);
+            snapshot.put("lastError", lastError);
+            return snapshot;
+        }
+
+        private void record(long elapsedNanos, boolean failedPing) {
+            latencies[index] = elapsedNanos;
+            failed[index] = failedPing;
+            index = (index + 1) % latencies.length;
+            count = Math.min(count + 1, latencies.length);
+            pings++;
+        }
+
+        private static Double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return null;
+            }
+            int i = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, i))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import java.util.List;
+
+/**
+ * Published when an MCP server announces that its tool, prompt or resource list changed.
+ * The items are the refreshed list the client fetched in response to the notification.
+ */
+public record McpListChangedEvent(String connectionName, Kind kind, List<?> items) {
+
+    public enum Kind {
+        TOOLS,
+        PROMPTS,
+        RESOURCES
+    }
+}
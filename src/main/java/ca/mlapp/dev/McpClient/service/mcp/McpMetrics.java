@@ -0,0 +1,164 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Micrometer meters for MCP traffic. Call meters are built once per connection and operation
+ * and then held by the caller, so recording a call costs a clock read and a few atomic updates
+ * rather than a registry lookup.
+ * <ul>
+ *   <li>{@code mcp.client.calls} timer by connection, operation and outcome</li>
+ *   <li>{@code mcp.client.in.flight} gauge by connection</li>
+ *   <li>{@code mcp.client.payload} UTF-8 size of the text returned, by connection and operation</li>
+ *   <li>{@code mcp.client.errors} counter by connection, operation and exception type, with
+ *       {@code ToolError} for tool results flagged as errors</li>
+ *   <li>{@code mcp.tool.decode} timer of tool result decoding, by tool</li>
+ *   <li>{@code mcp.cache.gets} hit and miss counters by cache and name</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class McpMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> decodeTimers = new ConcurrentHashMap<>();
+
+    public CallMeters callMeters(String connection, String operation) {
+        return new CallMeters(
+            callTimer(connection, operation, "success"),
+            callTimer(connection, operation, "error"),
+            DistributionSummary.builder("mcp.client.payload")
+                .description("Size of the text content returned by MCP calls")
+                .baseUnit("bytes")
+                .tag("connection", connection)
+                .tag("operation", operation)
+                .register(registry)
+        );
+    }
+
+    public <T> void inFlight(String connection, T state, ToDoubleFunction<T> outstanding) {
+        Gauge.builder("mcp.client.in.flight", state, outstanding)
+            .description("MCP calls currently outstanding")
+            .tag("connection", connection)
+            .register(registry);
+    }
+
+    /**
+     * Count a failed call. Not on the success path, so the counter is looked up each time.
+     */
+    public void error(String connection, String operation, Throwable error) {
+        error(connection, operation, error.getClass().getSimpleName());
+    }
+
+    public void error(String connection, String operation, String type) {
+        Counter.builder("mcp.client.errors")
+            .description("Failed MCP calls by error type")
+            .tag("connection", connection)
+            .tag("operation", operation)
+            .tag("exception", type)
+            .register(registry)
+            .increment();
+    }
+
+    public void decoded(String toolName, long elapsedNanos) {
+        Timer timer = decodeTimers.get(toolName);
+        if (timer == null) {
+            timer = decodeTimers.computeIfAbsent(toolName, name -> Timer.builder("mcp.tool.decode")
+                .description("Time spent decoding tool result text")
+                .tag("tool", name)
+                .register(registry));
+        }
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Publish counters a cache already keeps, read only when metrics are scraped.
+     */
+    public <T> void cacheGets(String cache, String name, T state,
+                              ToDoubleFunction<T> hits, ToDoubleFunction<T> misses) {
+        FunctionCounter.builder("mcp.cache.gets", state, hits)
+            .tag("cache", cache).tag("name", name).tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("mcp.cache.gets", state, misses)
+            .tag("cache", cache).tag("name", name).tag("result", "miss")
+            .register(registry);
+    }
+
+    public Counter cacheCounter(String cache, String name, String result) {
+        return Counter.builder("mcp.cache.gets")
+            .tag("cache", cache).tag("name", name).tag("result", result)
+            .register(registry);
+    }
+
+    /**
+     * UTF-8 size of the text content of a tool, prompt or resource result; -1 for anything else.
+     */
+    public static long payloadBytes(Object result) {
+        long bytes = 0;
+        if (result instanceof McpSchema.CallToolResult toolResult && toolResult.content() != null) {
+            for (McpSchema.Content content : toolResult.content()) {
+                if (content instanceof McpSchema.TextContent text) {
+                    bytes += utf8Length(text.text());
+                }
+            }
+        } else if (result instanceof McpSchema.ReadResourceResult resourceResult && resourceResult.contents() != null) {
+            for (McpSchema.ResourceContents contents : resourceResult.contents()) {
+                if (contents instanceof McpSchema.TextResourceContents text) {
+                    bytes += utf8Length(text.text());
+                }
+            }
+        } else if (result instanceof McpSchema.GetPromptResult promptResult && promptResult.messages() != null) {
+            for (McpSchema.PromptMessage message : promptResult.messages()) {
+                if (message.content() instanceof McpSchema.TextContent text) {
+                    bytes += utf8Length(text.text());
+                }
+            }
+        } else {
+            return -1;
+        }
+        return bytes;
+    }
+
+    private Timer callTimer(String connection, String operation, String outcome) {
+        return Timer.builder("mcp.client.calls")
+            .description("Latency of MCP calls as seen by the connection")
+            .tag("connection", connection)
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private static long utf8Length(String text) {
+        if (text == null) {
+            return 0;
+        }
+        long bytes = text.length();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                // Surrogate pairs count 2 + 2 here, which is their 4-byte encoding
+                bytes += c < 0x800 ? 1 : Character.isSurrogate(c) ? 1 : 2;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Meters for one operation on one connection.
+     */
+    public record CallMeters(Timer success, Timer failure, DistributionSummary payload) {
+    }
+}
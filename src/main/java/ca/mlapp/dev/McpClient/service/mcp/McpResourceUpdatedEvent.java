@@ -0,0 +1,12 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import io.modelcontextprotocol.spec.McpSchema;
+
+import java.util.List;
+
+/**
+ * Published when an MCP server notifies that a subscribed resource changed. The contents are
+ * the fresh copy the client read in response to the notification.
+ */
+public record McpResourceUpdatedEvent(String connectionName, List<McpSchema.ResourceContents> contents) {
+}
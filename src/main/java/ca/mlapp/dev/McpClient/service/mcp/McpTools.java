@@ -0,0 +1,47 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import java.util.Set;
+
+/**
+ * Names of the tools exposed by the MCP server, grouped by how the client may treat them.
+ */
+public final class McpTools {
+
+    // Portfolio tools
+    public static final String LIST_ALL_STOCKS = "list-all-stocks";
+    public static final String GET_STOCK = "get-stock";
+    public static final String ADD_STOCK = "add-stock";
+    public static final String UPDATE_STOCK_PRICE = "update-stock-price";
+    public static final String UPDATE_STOCK_SHARES = "update-stock-shares";
+    public static final String DELETE_STOCK = "delete-stock";
+    public static final String SEARCH_STOCKS = "search-stocks";
+    public static final String CALCULATE_PORTFOLIO_VALUE = "calculate-portfolio-value";
+
+    // TwelveData tools
+    public static final String FETCH_REALTIME_QUOTE = "fetch-realtime-quote";
+    public static final String GET_HISTORICAL_DATA = "get-historical-data";
+    public static final String REFRESH_ALL_PRICES = "refresh-all-prices";
+    public static final String SEARCH_STOCK_SYMBOLS = "search-stock-symbols";
+    public static final String GET_API_USAGE = "get-api-usage";
+
+    // Technical indicator tools
+    public static final String GET_SMA = "get-sma";
+    public static final String GET_EMA = "get-ema";
+    public static final String GET_RSI = "get-rsi";
+    public static final String GET_MACD = "get-macd";
+    public static final String GET_BBANDS = "get-bbands";
+
+    /**
+     * Tools that change portfolio state and must never be cached or coalesced
+     */
+    public static final Set<String> MUTATING = Set.of(
+        ADD_STOCK, UPDATE_STOCK_PRICE, UPDATE_STOCK_SHARES, DELETE_STOCK, REFRESH_ALL_PRICES
+    );
+
+    private McpTools() {
+    }
+
+    public static boolean isReadOnly(String toolName) {
+        return !MUTATING.contains(toolName);
+    }
+}
@@ -0,0 +1,350 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import ca.mlapp.dev.McpClient.config.McpResilienceConfig;
+import ca.mlapp.dev.McpClient.exception.CircuitOpenException;
+import ca.mlapp.dev.McpClient.exception.McpClientException;
+import ca.mlapp.dev.McpClient.exception.McpTimeoutException;
+import io.modelcontextprotocol.client.McpSyncClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Resilience layer between the service and the {@link McpClientPool}. Each operation gets a
+ * circuit breaker over its recent outcomes and a timeout derived from its own latency
+ * percentiles instead of the flat client timeout. Idempotent reads may be hedged: if the first
+ * attempt is slower than usual, a second one is sent (to another connection when available)
+ * and whichever answers first wins. Writes keep the flat maximum timeout and are never hedged.
+ * Only timeouts and connection failures count against the breaker, not error replies.
+ */
+@Component
+@Slf4j
+public class ResilientInvoker {
+
+    private final McpClientPool clientPool;
+    private final CreditBudget creditBudget;
+    private final McpResilienceConfig config;
+    private final McpMetrics metrics;
+    private final Executor workerExecutor;
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    public ResilientInvoker(McpClientPool clientPool, CreditBudget creditBudget, McpResilienceConfig config,
+                            McpMetrics metrics, @Qualifier("mcpWorkerExecutor") Executor workerExecutor) {
+        this.clientPool = clientPool;
+        this.creditBudget = creditBudget;
+        this.config = config;
+        this.metrics = metrics;
+        this.workerExecutor = workerExecutor;
+    }
+
+    /**
+     * Run a call for the named operation (a tool, prompt or resource kind).
+     */
+    public <T> T execute(String operationName, Function<McpSyncClient, T> call) {
+        if (!config.isEnabled()) {
+            return clientPool.execute(operationName, call);
+        }
+
+        Operation operation = operations.computeIfAbsent(operationName, Operation::new);
+        try {
+            operation.acquirePermission();
+        } catch (CircuitOpenException e) {
+            // Rejected before any connection was chosen
+            metrics.error("none", operationName, e);
+            throw e;
+        }
+        long start = System.nanoTime();
+        McpClientPool.Member primary = null;
+        try {
+            primary = clientPool.select();
+            T result = attempt(operation, primary, call, start);
+            operation.recordSuccess(System.nanoTime() - start);
+            return result;
+        } catch (McpTimeoutException e) {
+            // The pool only sees the call finish (or fail) later, so the timeout is counted here
+            metrics.error(primary.getName(), operationName, e);
+            operation.recordFailure();
+            throw e;
+        } catch (RuntimeException e) {
+            // An error reply is the caller's problem; counting it would let a few bad symbols
+            // open the circuit for every valid call of the same kind
+            if (McpFailures.isConnectionFailure(e)) {
+                operation.recordFailure();
+            } else {
+                operation.recordAnswered();
+            }
+            throw e;
+        }
+    }
+
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> snapshot = new LinkedHashMap<>();
+        operations.values().forEach(operation -> snapshot.put(operation.name, operation.snapshot()));
+        return snapshot;
+    }
+
+    private <T> T attempt(Operation operation, McpClientPool.Member primary, Function<McpSyncClient, T> call,
+                          long start) {
+        long timeoutNanos = operation.timeoutNanos();
+        CompletableFuture<T> first = CompletableFuture.supplyAsync(
+            () -> clientPool.execute(primary, operation.name, call), workerExecutor);
+
+        long hedgeDelay = hedgeDelayNanos(operation, timeoutNanos);
+        if (hedgeDelay > 0) {
+            try {
+                return first.get(hedgeDelay, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (hedgeAllowed(operation)) {
+                    McpClientPool.Member secondary = clientPool.selectOther(primary);
+                    log.debug("Hedging {} on {} after {}ms", operation.name, secondary.getName(),
+                              TimeUnit.NANOSECONDS.toMillis(hedgeDelay));
+                    CompletableFuture<T> second = CompletableFuture.supplyAsync(
+                        () -> clientPool.execute(secondary, operation.name, call), workerExecutor);
+                    return await(operation, firstSuccessful(first, second), timeoutNanos - (System.nanoTime() - start));
+                }
+            } catch (ExecutionException e) {
+                return await(operation, first, 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new McpClientException("Interrupted while waiting for MCP call " + operation.name, e);
+            }
+        }
+        return await(operation, first, timeoutNanos - (System.nanoTime() - start));
+    }
+
+    private long hedgeDelayNanos(Operation operation, long timeoutNanos) {
+        // A hedged write could be applied twice
+        if (operation.write || !config.isHedgeEnabled() || !config.getHedgeTools().contains(operation.name)) {
+            return 0;
+        }
+        long percentile = operation.latencyPercentile(config.getHedgePercentile());
+        if (percentile <= 0) {
+            return 0;
+        }
+        long delay = Math.max(percentile, config.getMinHedgeDelay().toNanos());
+        return delay < timeoutNanos / 2 ? delay : 0;
+    }
+
+    private boolean hedgeAllowed(Operation operation) {
+        if (creditBudget.costOf(operation.name) <= 0) {
+            return true;
+        }
+        // A hedge on a metered tool spends a credit of its own, so it takes one only if it can do
+        // so without waiting or eating into the interactive reserve
+        try {
+            CallPriority.BACKGROUND.run(() -> {
+                creditBudget.acquire(operation.name);
+                return null;
+            });
+            return true;
+        } catch (McpClientException e) {
+            log.debug("Not hedging {}: {}", operation.name, e.getMessage());
+            return false;
+        }
+    }
+
+    private static <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> first, CompletableFuture<T> second) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failed = new AtomicInteger();
+        BiConsumer<T, Throwable> onComplete = (result, error) -> {
+            if (error == null) {
+                winner.complete(result);
+            } else if (failed.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        };
+        first.whenComplete(onComplete);
+        second.whenComplete(onComplete);
+        return winner;
+    }
+
+    private static <T> T await(Operation operation, CompletableFuture<T> future, long remainingNanos) {
+        try {
+            return future.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new McpTimeoutException("MCP call " + operation.name + " timed out after "
+                + TimeUnit.NANOSECONDS.toMillis(operation.timeoutNanos()) + "ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new McpClientException("Interrupted while waiting for MCP call " + operation.name, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new McpClientException("MCP call " + operation.name + " failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final class Operation {
+        private static final int LATENCY_SAMPLES = 128;
+        private static final int PERCENTILE_REFRESH = 16;
+
+        private final String name;
+        private final boolean write;
+        private final boolean[] outcomes = new boolean[Math.max(1, config.getBreakerWindow())];
+        private final long[] latencies = new long[LATENCY_SAMPLES];
+        private int outcomeCount;
+        private int outcomeIndex;
+        private int failures;
+        private int latencyCount;
+        private int latencyIndex;
+        private int samplesSinceSort;
+        private long[] sorted = new long[0];
+        private State state = State.CLOSED;
+        private long openUntil;
+        private boolean probeInFlight;
+
+        private Operation(String name) {
+            this.name = name;
+            this.write = McpTools.MUTATING.contains(name);
+        }
+
+        synchronized void acquirePermission() {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openUntil < 0) {
+                    throw new CircuitOpenException("MCP operation " + name
+                        + " is failing, circuit open for another "
+                        + TimeUnit.NANOSECONDS.toSeconds(openUntil - System.nanoTime()) + "s");
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (probeInFlight) {
+                    throw new CircuitOpenException("MCP operation " + name + " is being probed after failures");
+                }
+                probeInFlight = true;
+            }
+        }
+
+        synchronized void recordSuccess(long elapsedNanos) {
+            latencies[latencyIndex] = elapsedNanos;
+            latencyIndex = (latencyIndex + 1) % LATENCY_SAMPLES;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+            samplesSinceSort++;
+
+            if (state == State.HALF_OPEN) {
+                log.info("Circuit for MCP operation {} closed", name);
+                state = State.CLOSED;
+                resetOutcomes();
+                return;
+            }
+            recordOutcome(false);
+        }
+
+        /**
+         * The server answered with an error: no outcome is recorded, but a half-open probe is
+         * over and the next call may probe again.
+         */
+        synchronized void recordAnswered() {
+            if (state == State.HALF_OPEN) {
+                probeInFlight = false;
+            }
+        }
+
+        synchronized void recordFailure() {
+            if (state == State.HALF_OPEN) {
+                open();
+                return;
+            }
+            recordOutcome(true);
+            if (state == State.CLOSED && outcomeCount >= config.getBreakerMinimumCalls()
+                    && failures >= config.getBreakerFailureRate() * outcomeCount) {
+                open();
+            }
+        }
+
+        synchronized long timeoutNanos() {
+            long max = config.getMaxTimeout().toNanos();
+            // Timing out doesn't cancel the call, so a write cut short by a tight timeout may
+            // still land after the caller has reported it failed
+            if (write) {
+                return max;
+            }
+            long percentile = latencyPercentile(config.getTimeoutPercentile());
+            if (percentile <= 0) {
+                return max;
+            }
+            long adaptive = (long) (percentile * config.getTimeoutMultiplier());
+            return Math.min(max, Math.max(config.getMinTimeout().toNanos(), adaptive));
+        }
+
+        /**
+         * Latency at the given percentile, or 0 while there are too few samples.
+         */
+        synchronized long latencyPercentile(double percentile) {
+            if (latencyCount < config.getMinimumSamples()) {
+                return 0;
+            }
+            // Re-sorting a small window every few samples keeps percentiles cheap and fresh enough
+            if (samplesSinceSort >= PERCENTILE_REFRESH || sorted.length != latencyCount) {
+                sorted = Arrays.copyOf(latencies, latencyCount);
+                Arrays.sort(sorted);
+                samplesSinceSort = 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        synchronized Map<String, Object> snapshot() {
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("state", state.name());
+            snapshot.put("recentCalls", outcomeCount);
+            snapshot.put("recentFailures", failures);
+            snapshot.put("p50Ms", TimeUnit.NANOSECONDS.toMillis(latencyPercentile(0.5)));
+            snapshot.put("p99Ms", TimeUnit.NANOSECONDS.toMillis(latencyPercentile(0.99)));
+            snapshot.put("timeoutMs", TimeUnit.NANOSECONDS.toMillis(timeoutNanos()));
+            return snapshot;
+        }
+
+        private void recordOutcome(boolean failed) {
+            if (outcomeCount == outcomes.length && outcomes[outcomeIndex]) {
+                failures--;
+            }
+            outcomes[outcomeIndex] = failed;
+            if (failed) {
+                failures++;
+            }
+            outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+            outcomeCount = Math.min(outcomeCount + 1, outcomes.length);
+        }
+
+        private void resetOutcomes() {
+            Arrays.fill(outcomes, false);
+            outcomeCount = 0;
+            outcomeIndex = 0;
+            failures = 0;
+            probeInFlight = false;
+        }
+
+        private void open() {
+            state = State.OPEN;
+            openUntil = System.nanoTime() + config.getBreakerOpenDuration().toNanos();
+            resetOutcomes();
+            log.warn("Circuit for MCP operation {} opened for {}s", name, config.getBreakerOpenDuration().toSeconds());
+        }
+    }
+}
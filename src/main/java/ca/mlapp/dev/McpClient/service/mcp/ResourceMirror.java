@@ -0,0 +1,269 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import ca.mlapp.dev.McpClient.config.McpResourceConfig;
+import io.micrometer.core.instrument.Counter;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Local copy of the MCP resources the client has read. The first read of a URI subscribes to
+ * it on every pooled connection; from then on reads are memory lookups and the copy is
+ * replaced whenever a server pushes notifications/resources/updated. A copy older than
+ * {@code mcp.resources.max-age} is read again, and all copies are dropped when a connection
+ * recovers from an outage, in case notifications were missed. Servers that don't
+ * support subscriptions are read through on every call, as before.
+ */
+@Component
+@Slf4j
+public class ResourceMirror {
+
+    private static final String STOCK_PREFIX = "stock://";
+    private static final List<String> PORTFOLIO_URIS = List.of("portfolio://summary", "portfolio://list");
+
+    private final McpClientPool clientPool;
+    private final McpResourceConfig config;
+    private final Executor workerExecutor;
+    private final LinkedHashMap<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResourceMirror(McpClientPool clientPool, McpResourceConfig config, McpMetrics metrics,
+                          @Qualifier("mcpWorkerExecutor") Executor workerExecutor) {
+        this.clientPool = clientPool;
+        this.config = config;
+        this.workerExecutor = workerExecutor;
+        this.hits = metrics.cacheCounter("resource-mirror", "resource", "hit");
+        this.misses = metrics.cacheCounter("resource-mirror", "resource", "miss");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > config.getMaxSubscriptions()) {
+                    unsubscribeAsync(eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * The mirrored text of a resource, loading and subscribing to it on first use.
+     */
+    public String read(String uri, Supplier<String> loader) {
+        if (!config.isSubscribe() || !subscriptionsSupported()) {
+            return loader.get();
+        }
+
+        Entry entry;
+        boolean subscribe = false;
+        synchronized (entries) {
+            entry = entries.get(uri);
+            if (entry == null) {
+                entry = new Entry();
+                entries.put(uri, entry);
+                subscribe = true;
+            }
+        }
+        String text = entry.current(config.getMaxAge().toNanos());
+        if (text != null) {
+            hits.increment();
+            return text;
+        }
+        misses.increment();
+
+        // Subscribe before reading, so an update that lands between the two isn't missed
+        if (subscribe && !subscribe(uri)) {
+            synchronized (entries) {
+                entries.remove(uri, entry);
+            }
+            return loader.get();
+        }
+        long version = entry.version;
+        String loaded = loader.get();
+        entry.offer(loaded, version);
+        return loaded;
+    }
+
+    /**
+     * Drop the copies a portfolio write can change, so the writer reads its own write even if
+     * the server's notification arrives later.
+     */
+    public void invalidateAfter(String toolName, Map<String, Object> args) {
+        if (!McpTools.MUTATING.contains(toolName)) {
+            return;
+        }
+        String symbol = CallKey.symbolOf(args);
+        synchronized (entries) {
+            for (Map.Entry<String, Entry> mirrored : entries.entrySet()) {
+                String uri = mirrored.getKey();
+                boolean affected = PORTFOLIO_URIS.contains(uri)
+                    || (uri.startsWith(STOCK_PREFIX) && (symbol == null
+                        || uri.substring(STOCK_PREFIX.length()).equalsIgnoreCase(symbol)));
+                if (affected) {
+                    mirrored.getValue().invalidate();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop every copy once a connection is back after an outage: its subscriptions may have
+     * gone with the old session and updates may have been missed. The next read of each URI
+     * subscribes again.
+     */
+    @EventListener
+    public void onConnectionRecovered(McpConnectionRecoveredEvent event) {
+        synchronized (entries) {
+            if (entries.isEmpty()) {
+                return;
+            }
+            log.info("MCP connection {} recovered, dropping {} mirrored resource(s)",
+                     event.connectionName(), entries.size());
+            entries.values().forEach(Entry::invalidate);
+            entries.clear();
+        }
+    }
+
+    @EventListener
+    public void onResourceUpdated(McpResourceUpdatedEvent event) {
+        Map<String, List<McpSchema.ResourceContents>> byUri = new LinkedHashMap<>();
+        for (McpSchema.ResourceContents contents : event.contents()) {
+            byUri.computeIfAbsent(contents.uri(), uri -> new ArrayList<>()).add(contents);
+        }
+        byUri.forEach((uri, contents) -> {
+            Entry entry;
+            synchronized (entries) {
+                entry = entries.get(uri);
+            }
+            if (entry != null) {
+                log.debug("Resource {} updated by {}", uri, event.connectionName());
+                entry.replace(textOf(contents));
+            }
+        });
+    }
+
+    /**
+     * Concatenated text of the text parts of a resource, one part per line.
+     */
+    public static String textOf(List<McpSchema.ResourceContents> contents) {
+        if (contents == null || contents.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder resourceText = new StringBuilder();
+        for (var content : contents) {
+            if (content instanceof McpSchema.TextResourceContents textContent) {
+                resourceText.append(textContent.text()).append("\n");
+            }
+        }
+
+        return resourceText.toString().trim();
+    }
+
+    private boolean subscriptionsSupported() {
+        for (McpClientPool.Member member : clientPool.members()) {
+            McpSchema.ServerCapabilities capabilities = member.getClient().getServerCapabilities();
+            if (capabilities != null && capabilities.resources() != null
+                    && Boolean.TRUE.equals(capabilities.resources().subscribe())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Subscribe on every connection at once, waiting at most the subscribe timeout in total so
+     * a hung connection can't hold up the read (or, after a recovery, every read in turn).
+     */
+    private boolean subscribe(String uri) {
+        List<McpClientPool.Member> members = clientPool.members();
+        List<CompletableFuture<Object>> attempts = members.stream()
+            .map(member -> CompletableFuture.supplyAsync(() -> clientPool.execute(member, "subscribe", client -> {
+                client.subscribeResource(new McpSchema.SubscribeRequest(uri));
+                return null;
+            }), workerExecutor))
+            .toList();
+
+        long deadline = System.nanoTime() + config.getSubscribeTimeout().toNanos();
+        boolean subscribed = false;
+        for (int i = 0; i < members.size(); i++) {
+            String connection = members.get(i).getName();
+            try {
+                attempts.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                log.debug("Subscribed to {} on {}", uri, connection);
+                subscribed = true;
+            } catch (TimeoutException e) {
+                log.warn("Could not subscribe to {} on {}: timed out after {}ms", uri, connection,
+                         config.getSubscribeTimeout().toMillis());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("Could not subscribe to {} on {}: {}", uri, connection, cause.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return subscribed;
+    }
+
+    private void unsubscribeAsync(String uri) {
+        workerExecutor.execute(() -> {
+            for (McpClientPool.Member member : clientPool.members()) {
+                try {
+                    member.getClient().unsubscribeResource(new McpSchema.UnsubscribeRequest(uri));
+                } catch (RuntimeException e) {
+                    log.debug("Could not unsubscribe from {} on {}: {}", uri, member.getName(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    private static final class Entry {
+        private volatile String text;
+        private volatile long version;
+        private volatile long loadedAt;
+
+        /**
+         * The mirrored text, or null if there is none or it is older than the given age.
+         */
+        String current(long maxAgeNanos) {
+            String current = text;
+            return current != null && System.nanoTime() - loadedAt <= maxAgeNanos ? current : null;
+        }
+
+        synchronized void replace(String updated) {
+            text = updated;
+            loadedAt = System.nanoTime();
+            version++;
+        }
+
+        /**
+         * Keep a value read by the caller unless a newer one was pushed while it was loading.
+         */
+        synchronized void offer(String loaded, long loadedAtVersion) {
+            if (version == loadedAtVersion) {
+                text = loaded;
+                loadedAt = System.nanoTime();
+            }
+        }
+
+        synchronized void invalidate() {
+            text = null;
+            version++;
+        }
+    }
+}
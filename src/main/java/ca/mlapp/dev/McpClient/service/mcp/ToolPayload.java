@@ -0,0 +1,82 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * The text content of a tool result together with its lazily decoded value. When handed to
+ * Jackson as a response body, JSON text is written through verbatim instead of being parsed
+ * into an object graph and serialized again.
+ */
+public final class ToolPayload implements JsonSerializable {
+
+    private final String toolName;
+    private final String text;
+    private final boolean json;
+    private final ToolResultDecoder decoder;
+    private volatile Object value;
+    private volatile boolean decoded;
+
+    ToolPayload(String toolName, String text, boolean json, ToolResultDecoder decoder) {
+        this.toolName = toolName;
+        this.text = text;
+        this.json = json;
+        this.decoder = decoder;
+    }
+
+    public String getToolName() {
+        return toolName;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Whether the text is a JSON object or array that can be written to a response as-is.
+     */
+    public boolean isJson() {
+        return json;
+    }
+
+    /**
+     * The decoded result (typed DTO, generic JSON or plain text), decoded once on first access.
+     */
+    public Object value() {
+        if (!decoded) {
+            synchronized (this) {
+                if (!decoded) {
+                    value = text != null ? decoder.decode(toolName, text) : null;
+                    decoded = true;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Unwrap a service result that may be a passthrough payload.
+     */
+    public static Object valueOf(Object result) {
+        return result instanceof ToolPayload payload ? payload.value() : result;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (json) {
+            gen.writeRawValue(text);
+        } else {
+            serializers.defaultSerializeValue(value(), gen);
+        }
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
@@ -0,0 +1,196 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import ca.mlapp.dev.McpClient.config.McpCacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * TTL- and size-bounded cache of tool results, keyed by tool name plus canonicalized
+ * arguments. Portfolio writes invalidate exactly the entries they can affect.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ToolResultCache {
+
+    private final McpCacheConfig config;
+    private final McpMetrics metrics;
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String toolName, Map<String, Object> args, Supplier<T> loader) {
+        Region region = region(toolName);
+        if (region == null) {
+            return loader.get();
+        }
+
+        String key = CallKey.canonicalArgs(args);
+        Entry cached = region.get(key);
+        if (cached != null && !cached.isExpired()) {
+            region.hits.incrementAndGet();
+            return (T) cached.value();
+        }
+
+        region.misses.incrementAndGet();
+        long generation = region.generation();
+        T value = loader.get();
+        region.put(key, new Entry(value, System.nanoTime() + region.ttlNanos, CallKey.symbolOf(args)), generation);
+        return value;
+    }
+
+    /**
+     * The cached value for these arguments if it is still within its TTL, without loading.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getFresh(String toolName, Map<String, Object> args) {
+        Region region = regions.get(toolName);
+        if (region == null) {
+            return null;
+        }
+        Entry cached = region.get(CallKey.canonicalArgs(args));
+        return cached != null && !cached.isExpired() ? (T) cached.value() : null;
+    }
+
+    /**
+     * The last cached value for these arguments even if its TTL has passed, or null if nothing
+     * is held. Used as a fallback when a fresh call can't be made.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getStale(String toolName, Map<String, Object> args) {
+        Region region = regions.get(toolName);
+        if (region == null) {
+            return null;
+        }
+        Entry cached = region.get(CallKey.canonicalArgs(args));
+        return cached != null ? (T) cached.value() : null;
+    }
+
+    /**
+     * Drop every entry a successful (or failed, possibly partially applied) write could have changed.
+     */
+    public void invalidateAfter(String toolName, Map<String, Object> args) {
+        switch (toolName) {
+            case McpTools.ADD_STOCK, McpTools.UPDATE_STOCK_PRICE,
+                 McpTools.UPDATE_STOCK_SHARES, McpTools.DELETE_STOCK -> {
+                invalidate(McpTools.GET_STOCK, CallKey.symbolOf(args));
+                invalidatePortfolioViews();
+            }
+            case McpTools.REFRESH_ALL_PRICES -> {
+                invalidate(McpTools.GET_STOCK);
+                invalidatePortfolioViews();
+            }
+            default -> {
+            }
+        }
+    }
+
+    public void invalidate(String toolName) {
+        Region region = regions.get(toolName);
+        if (region != null) {
+            region.clear();
+        }
+    }
+
+    public void invalidate(String toolName, String symbol) {
+        Region region = regions.get(toolName);
+        if (region == null) {
+            return;
+        }
+        if (symbol == null) {
+            region.clear();
+        } else {
+            region.removeSymbol(symbol);
+        }
+    }
+
+    private void invalidatePortfolioViews() {
+        invalidate(McpTools.LIST_ALL_STOCKS);
+        invalidate(McpTools.CALCULATE_PORTFOLIO_VALUE);
+        invalidate(McpTools.SEARCH_STOCKS);
+    }
+
+    private Region region(String toolName) {
+        if (!config.isEnabled() || McpTools.MUTATING.contains(toolName)) {
+            return null;
+        }
+        Region region = regions.get(toolName);
+        if (region != null) {
+            return region;
+        }
+        McpCacheConfig.ToolCache settings = config.getTools().get(toolName);
+        if (settings == null || settings.getTtl() == null || settings.getTtl().isZero()) {
+            return null;
+        }
+        int maxSize = settings.getMaxSize() != null ? settings.getMaxSize() : config.getDefaultMaxSize();
+        return regions.computeIfAbsent(toolName, name -> {
+            log.debug("Caching tool {} for {} (max {} entries)", name, settings.getTtl(), maxSize);
+            Region created = new Region(settings.getTtl().toNanos(), maxSize);
+            metrics.cacheGets("tool-result", name, created, r -> r.hits.get(), r -> r.misses.get());
+            return created;
+        });
+    }
+
+    private record Entry(Object value, long expiresAt, String symbol) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+    }
+
+    private static final class Region {
+        private final long ttlNanos;
+        private final int maxSize;
+        private final LinkedHashMap<String, Entry> entries;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private long generation;
+
+        private Region(long ttlNanos, int maxSize) {
+            this.ttlNanos = ttlNanos;
+            this.maxSize = maxSize;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > Region.this.maxSize;
+                }
+            };
+        }
+
+        synchronized Entry get(String key) {
+            return entries.get(key);
+        }
+
+        synchronized long generation() {
+            return generation;
+        }
+
+        synchronized void put(String key, Entry entry, long loadedAtGeneration) {
+            // An invalidation raced with the load, so the loaded value may already be stale
+            if (loadedAtGeneration == generation) {
+                entries.put(key, entry);
+            }
+        }
+
+        synchronized void clear() {
+            generation++;
+            entries.clear();
+        }
+
+        synchronized void removeSymbol(String symbol) {
+            generation++;
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                if (symbol.equals(it.next().symbol())) {
+                    it.remove();
+                }
+            }
+        }
+    }
+}
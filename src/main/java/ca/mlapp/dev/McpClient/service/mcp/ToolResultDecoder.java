@@ -0,0 +1,122 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import ca.mlapp.dev.McpClient.dto.twelvedata.QuoteResponseDTO;
+import ca.mlapp.dev.McpClient.dto.twelvedata.SymbolSearchResultDTO;
+import ca.mlapp.dev.McpClient.dto.twelvedata.TimeSeriesResponseDTO;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the text content of tool results. Tools with a known result shape are bound straight
+ * to their DTO from a streaming parser, which keeps any field it doesn't model (see
+ * {@link ca.mlapp.dev.McpClient.dto.twelvedata.ExtensibleDTO}); everything else falls back to
+ * generic maps and lists.
+ * Plain-text results are detected up front instead of by catching a parse failure.
+ */
+@Component
+@Slf4j
+public class ToolResultDecoder {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader genericReader;
+    private final Map<String, ObjectReader> typedReaders;
+    private final McpMetrics metrics;
+
+    public ToolResultDecoder(ObjectMapper objectMapper, McpMetrics metrics) {
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.genericReader = objectMapper.readerFor(Object.class);
+        this.typedReaders = Map.of(
+            McpTools.FETCH_REALTIME_QUOTE, objectMapper.readerFor(QuoteResponseDTO.class),
+            McpTools.GET_HISTORICAL_DATA, objectMapper.readerFor(TimeSeriesResponseDTO.class),
+            McpTools.SEARCH_STOCK_SYMBOLS, objectMapper.readerFor(new TypeReference<List<SymbolSearchResultDTO>>() {})
+        );
+    }
+
+    public ToolPayload payload(String toolName, String text) {
+        int start = firstNonWhitespace(text);
+        boolean json = start >= 0 && (text.charAt(start) == '{' || text.charAt(start) == '[');
+        return new ToolPayload(toolName, text, json, this);
+    }
+
+    public Object decode(String toolName, String text) {
+        long begin = System.nanoTime();
+        Object value = decodeText(toolName, text);
+        metrics.decoded(toolName, System.nanoTime() - begin);
+        return value;
+    }
+
+    /**
+     * Same decode without recording its time, for warm-up runs over sample payloads.
+     */
+    public Object decodeUnmetered(String toolName, String text) {
+        return decodeText(toolName, text);
+    }
+
+    private Object decodeText(String toolName, String text) {
+        int start = firstNonWhitespace(text);
+        if (start < 0) {
+            return text;
+        }
+
+        char first = text.charAt(start);
+        if (first == '{' || first == '[') {
+            ObjectReader typedReader = typedReaders.get(toolName);
+            if (typedReader != null) {
+                try (JsonParser parser = objectMapper.createParser(text)) {
+                    return typedReader.readValue(parser);
+                } catch (MismatchedInputException e) {
+                    log.debug("Result of {} does not match its typed shape, decoding generically", toolName);
+                } catch (IOException e) {
+                    log.debug("Tool result is not valid JSON, returning raw text: {}", e.getMessage());
+                    return text;
+                }
+            }
+            return read(genericReader, text);
+        }
+        if (isJsonScalar(text, start)) {
+            return read(genericReader, text);
+        }
+        return text;
+    }
+
+    private Object read(ObjectReader reader, String text) {
+        try (JsonParser parser = objectMapper.createParser(text)) {
+            return reader.readValue(parser);
+        } catch (IOException e) {
+            // Text that only looks like JSON is returned as-is, matching the plain-text case
+            log.debug("Tool result is not valid JSON, returning raw text: {}", e.getMessage());
+            return text;
+        }
+    }
+
+    private static int firstNonWhitespace(String text) {
+        if (text == null) {
+            return -1;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isJsonScalar(String text, int start) {
+        char first = text.charAt(start);
+        if (first == '"' || first == '-' || (first >= '0' && first <= '9')) {
+            return true;
+        }
+        String trimmed = text.strip();
+        return trimmed.equals("true") || trimmed.equals("false") || trimmed.equals("null");
+    }
+}
@@ -0,0 +1,10 @@
+package ca.mlapp.dev.McpClient.service.mcp;
+
+import java.util.Map;
+
+/**
+ * Published after a successful upstream tool call (not for cache hits), so local stores can
+ * learn from fresh results without sitting in the call path.
+ */
+public record ToolResultEvent(String toolName, Map<String, Object> args, ToolPayload payload) {
+}
@@ -0,0 +1,56 @@
+package ca.mlapp.dev.McpClient.service.portfolio;
+
+import ca.mlapp.dev.McpClient.config.McpPortfolioConfig;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * In-process equivalent of the search-stocks tool: positions whose symbol or name contains the
+ * pattern, ignoring case, in list order. Compiled patterns are kept in a small LRU cache since
+ * the same few searches (and the prefixes typed on the way to them) repeat.
+ */
+@Component
+public class PortfolioSearch {
+
+    private final LinkedHashMap<String, Pattern> patterns;
+
+    public PortfolioSearch(McpPortfolioConfig config) {
+        this.patterns = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+                return size() > config.getPatternCacheSize();
+            }
+        };
+    }
+
+    /**
+     * The positions of a list-all-stocks result that match the pattern.
+     */
+    public List<Object> search(List<?> positions, String pattern) {
+        Pattern compiled = compile(pattern == null ? "" : pattern.trim());
+        List<Object> matches = new ArrayList<>();
+        for (Object position : positions) {
+            if (position instanceof Map<?, ?> stock
+                    && (matches(compiled, stock.get("symbol")) || matches(compiled, stock.get("name")))) {
+                matches.add(position);
+            }
+        }
+        return matches;
+    }
+
+    private Pattern compile(String pattern) {
+        synchronized (patterns) {
+            return patterns.computeIfAbsent(pattern,
+                p -> Pattern.compile(Pattern.quote(p), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE));
+        }
+    }
+
+    private static boolean matches(Pattern pattern, Object field) {
+        return field != null && pattern.matcher(field.toString()).find();
+    }
+}
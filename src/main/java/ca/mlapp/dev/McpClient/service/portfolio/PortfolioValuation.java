@@ -0,0 +1,266 @@
+package ca.mlapp.dev.McpClient.service.portfolio;
+
+import ca.mlapp.dev.McpClient.dto.twelvedata.QuoteResponseDTO;
+import ca.mlapp.dev.McpClient.service.mcp.McpTools;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Local valuation of the portfolio. Positions come from list-all-stocks, prices from the
+ * stored position price or, once one has been seen, the latest realtime quote. A price or share
+ * change adjusts the running totals by that position's difference, so a tick costs the same
+ * for ten positions as for ten thousand; the full view (per-position value, weight and day
+ * change) is rebuilt only when it is read after a change.
+ */
+@Component
+public class PortfolioValuation {
+
+    private final Map<String, Position> positions = new LinkedHashMap<>();
+    private double totalValue;
+    private double dayChange;
+    private boolean synced;
+    private Instant asOf;
+    private volatile Map<String, Object> snapshot;
+
+    /**
+     * Whether positions have been loaded and no write has happened that can't be applied locally.
+     */
+    public synchronized boolean isReady() {
+        return synced;
+    }
+
+    public synchronized double totalValue() {
+        return totalValue;
+    }
+
+    /**
+     * Replace the positions with a list-all-stocks result, keeping live quote prices for
+     * positions that are still held.
+     */
+    public synchronized void syncPositions(Object stocks) {
+        if (!(stocks instanceof List<?> list)) {
+            return;
+        }
+        Set<String> listed = new HashSet<>();
+        for (Object item : list) {
+            if (!(item instanceof Map<?, ?> stock) || stock.get("symbol") == null) {
+                continue;
+            }
+            String symbol = normalize(String.valueOf(stock.get("symbol")));
+            listed.add(symbol);
+            Position position = positions.computeIfAbsent(symbol, Position::new);
+            Object name = stock.get("name");
+            position.name = name != null ? String.valueOf(name) : position.name;
+            position.shares = toDouble(stock.get("shares"), 0);
+            position.storedPrice = toDouble(stock.containsKey("currentPrice") ? stock.get("currentPrice")
+                                                                             : stock.get("price"), 0);
+        }
+        positions.keySet().retainAll(listed);
+        synced = true;
+        recompute();
+    }
+
+    /**
+     * Re-price one position from a realtime quote; quotes for symbols not held are ignored.
+     */
+    public synchronized void onQuote(Object result) {
+        if (!(result instanceof QuoteResponseDTO quote) || quote.getSymbol() == null) {
+            return;
+        }
+        Position position = positions.get(normalize(quote.getSymbol()));
+        Double price = quote.getCloseAsDouble();
+        if (position == null || price == null) {
+            return;
+        }
+        Double previousClose = toDouble(quote.getPreviousClose());
+        apply(position, () -> {
+            position.livePrice = price;
+            if (previousClose != null) {
+                position.previousClose = previousClose;
+            }
+        });
+    }
+
+    /**
+     * Apply a portfolio write to the local positions, whichever path it was sent through. A
+     * write that failed (and may have been partially applied) or can't be replayed locally
+     * drops the positions so the next read resyncs.
+     */
+    public synchronized void afterWrite(String toolName, Map<String, Object> args, boolean succeeded) {
+        Object symbol = args != null ? args.get("symbol") : null;
+        if (!succeeded || !synced || symbol == null) {
+            invalidate();
+            return;
+        }
+        switch (toolName) {
+            case McpTools.ADD_STOCK -> addPosition(String.valueOf(symbol), args.get("name"),
+                                                   toDouble(args.get("price")), toDouble(args.get("shares")));
+            case McpTools.UPDATE_STOCK_PRICE -> updatePrice(String.valueOf(symbol), toDouble(args.get("newPrice")));
+            case McpTools.UPDATE_STOCK_SHARES -> updateShares(String.valueOf(symbol), toDouble(args.get("newShares")));
+            case McpTools.DELETE_STOCK -> removePosition(String.valueOf(symbol));
+            default -> invalidate();
+        }
+    }
+
+    /**
+     * Forget the positions after a write that changed them upstream in a way that can't be
+     * replayed locally (such as refresh-all-prices); the next read resyncs.
+     */
+    public synchronized void invalidate() {
+        synced = false;
+        snapshot = null;
+    }
+
+    /**
+     * Total value, day change and per-position breakdown, in the calculate-portfolio-value
+     * shape with the local fields added.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = render();
+            }
+            return snapshot;
+        }
+    }
+
+    private void addPosition(String symbol, Object name, Double price, Double shares) {
+        Position position = positions.computeIfAbsent(normalize(symbol), Position::new);
+        apply(position, () -> {
+            position.name = name != null ? String.valueOf(name) : position.name;
+            position.storedPrice = price != null ? price : position.storedPrice;
+            position.shares = shares != null ? shares : position.shares;
+        });
+    }
+
+    private void updatePrice(String symbol, Double price) {
+        Position position = positions.get(normalize(symbol));
+        if (position != null && price != null) {
+            // An explicit price replaces whatever the last quote said until the next quote
+            apply(position, () -> {
+                position.storedPrice = price;
+                position.livePrice = Double.NaN;
+            });
+        }
+    }
+
+    private void updateShares(String symbol, Double shares) {
+        Position position = positions.get(normalize(symbol));
+        if (position != null && shares != null) {
+            apply(position, () -> position.shares = shares);
+        }
+    }
+
+    private void removePosition(String symbol) {
+        Position position = positions.get(normalize(symbol));
+        if (position != null) {
+            apply(position, () -> position.shares = 0);
+            positions.remove(position.symbol);
+        }
+    }
+
+    private void apply(Position position, Runnable update) {
+        double previousValue = position.value();
+        double previousDayChange = position.dayChange();
+        update.run();
+        totalValue += position.value() - previousValue;
+        dayChange += position.dayChange() - previousDayChange;
+        asOf = Instant.now();
+        snapshot = null;
+    }
+
+    private void recompute() {
+        double total = 0;
+        double change = 0;
+        for (Position position : positions.values()) {
+            total += position.value();
+            change += position.dayChange();
+        }
+        totalValue = total;
+        dayChange = change;
+        asOf = Instant.now();
+        snapshot = null;
+    }
+
+    private Map<String, Object> render() {
+        List<Map<String, Object>> breakdown = new ArrayList<>(positions.size());
+        for (Position position : positions.values()) {
+            double value = position.value();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("symbol", position.symbol);
+            entry.put("name", position.name);
+            entry.put("shares", position.shares);
+            entry.put("price", position.price());
+            entry.put("value", value);
+            entry.put("weight", totalValue != 0 ? value / totalValue : 0.0);
+            entry.put("dayChange", position.dayChange());
+            entry.put("live", !Double.isNaN(position.livePrice));
+            breakdown.add(entry);
+        }
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("totalValue", totalValue);
+        view.put("stockCount", positions.size());
+        view.put("dayChange", dayChange);
+        view.put("positions", breakdown);
+        view.put("source", "local");
+        view.put("asOf", asOf != null ? asOf.toString() : null);
+        return view;
+    }
+
+    private static String normalize(String symbol) {
+        return symbol.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static double toDouble(Object value, double fallback) {
+        Double parsed = toDouble(value);
+        return parsed != null ? parsed : fallback;
+    }
+
+    private static Double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        try {
+            return value != null ? Double.parseDouble(value.toString()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class Position {
+        private final String symbol;
+        private String name;
+        private double shares;
+        private double storedPrice;
+        private double livePrice = Double.NaN;
+        private double previousClose = Double.NaN;
+
+        private Position(String symbol) {
+            this.symbol = symbol;
+        }
+
+        double price() {
+            return Double.isNaN(livePrice) ? storedPrice : livePrice;
+        }
+
+        double value() {
+            return shares * price();
+        }
+
+        double dayChange() {
+            return Double.isNaN(previousClose) || Double.isNaN(livePrice) ? 0 : shares * (livePrice - previousClose);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package ca.mlapp.dev.McpClient.service.search;
+
+import ca.mlapp.dev.McpClient.config.McpSearchConfig;
+import ca.mlapp.dev.McpClient.dto.twelvedata.SymbolSearchResultDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * In-memory index over the instruments seen in search-stock-symbols results. A sorted token
+ * dictionary (symbols, instrument names and the words in them) answers ranked prefix queries
+ * with one range scan; a trigram index adds fuzzy matches for typos and mid-word queries.
+ * A query is answered locally when it extends a query whose upstream result was complete
+ * (shorter than the tool's limit), or when the index alone finds enough symbol or name prefix
+ * matches.
+ */
+@Component
+@Slf4j
+public class SymbolIndex {
+
+    private static final double EXACT_SYMBOL = 100;
+    private static final double SYMBOL_PREFIX = 80;
+    private static final double EXACT_WORD = 60;
+    private static final double WORD_PREFIX = 50;
+    private static final double FUZZY = 40;
+
+    /**
+     * Upper bound on candidates collected from one prefix scan, so one-letter queries stay cheap
+     */
+    private static final int MAX_CANDIDATES = 2_000;
+
+    private final McpSearchConfig config;
+    private final List<SymbolSearchResultDTO> entries = new ArrayList<>();
+    private final List<String> symbols = new ArrayList<>();
+    private final Map<String, Integer> idsByKey = new HashMap<>();
+    private final NavigableMap<String, Postings> tokens = new TreeMap<>();
+    private final Map<String, Postings> trigrams = new HashMap<>();
+    /**
+     * Queries fetched upstream, each with whether its result was complete
+     */
+    private final LinkedHashMap<String, Boolean> fetchedQueries;
+    private boolean fullLogged;
+
+    public SymbolIndex(McpSearchConfig config) {
+        this.config = config;
+        this.fetchedQueries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > config.getMaxFetchedQueries();
+            }
+        };
+    }
+
+    /**
+     * Ranked local matches for the query, or null if it should go to the tool.
+     */
+    public synchronized List<SymbolSearchResultDTO> lookup(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, Double> scores = prefixMatches(normalized);
+        // Fuzzy matches are too weak to stand in for the tool's answer, so only prefix hits count
+        if (scores.size() < config.getMinLocalResults() && !isCovered(normalized)) {
+            return null;
+        }
+        if (scores.size() < config.getMaxResults() && normalized.length() >= 3) {
+            addFuzzyMatches(normalized, scores);
+        }
+        return rank(scores);
+    }
+
+    /**
+     * Index the results of a search-stock-symbols call made for the query.
+     */
+    public synchronized void learn(String query, List<SymbolSearchResultDTO> results) {
+        String normalized = normalize(query);
+        if (!normalized.isEmpty()) {
+            // A result at the limit may have been cut off, so it can't answer longer queries alone
+            boolean complete = results != null && results.size() < config.getUpstreamLimit();
+            fetchedQueries.put(normalized, complete);
+        }
+        if (results == null) {
+            return;
+        }
+        for (SymbolSearchResultDTO result : results) {
+            if (result == null || result.getSymbol() == null) {
+                continue;
+            }
+            String key = result.getSymbol() + '|' + (result.getMicCode() != null ? result.getMicCode() : result.getExchange());
+            Integer existing = idsByKey.get(key);
+            if (existing != null) {
+                entries.set(existing, result);
+                continue;
+            }
+            if (entries.size() >= config.getMaxEntries()) {
+                if (!fullLogged) {
+                    log.info("Symbol index is full at {} instruments, no longer learning new ones", entries.size());
+                    fullLogged = true;
+                }
+                return;
+            }
+            add(key, result);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private Map<Integer, Double> prefixMatches(String query) {
+        Map<Integer, Double> scores = new HashMap<>();
+
+        int candidates = 0;
+        for (Map.Entry<String, Postings> token : tokens.subMap(query, true, query + Character.MAX_VALUE, true).entrySet()) {
+            String word = token.getKey();
+            boolean exact = word.length() == query.length();
+            // Closer completions rank above longer ones
+            double closeness = Math.min(10, word.length() - query.length()) * 0.5;
+            Postings postings = token.getValue();
+            for (int i = 0; i < postings.size; i++) {
+                int id = postings.ids[i];
+                boolean symbol = symbols.get(id).equals(word);
+                double score = symbol ? (exact ? EXACT_SYMBOL : SYMBOL_PREFIX - closeness)
+                                      : (exact ? EXACT_WORD : WORD_PREFIX - closeness);
+                scores.merge(id, score, Math::max);
+            }
+            candidates += postings.size;
+            if (candidates >= MAX_CANDIDATES) {
+                break;
+            }
+        }
+
+        return scores;
+    }
+
+    private List<SymbolSearchResultDTO> rank(Map<Integer, Double> scores) {
+        return scores.entrySet().stream()
+            .sorted(Comparator.<Map.Entry<Integer, Double>>comparingDouble(Map.Entry::getValue).reversed()
+                .thenComparingInt(entry -> symbols.get(entry.getKey()).length())
+                .thenComparing(entry -> symbols.get(entry.getKey())))
+            .limit(config.getMaxResults())
+            .map(entry -> entries.get(entry.getKey()))
+            .toList();
+    }
+
+    private void addFuzzyMatches(String query, Map<Integer, Double> scores) {
+        List<String> queryGrams = trigramsOf(query);
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String gram : queryGrams) {
+            Postings postings = trigrams.get(gram);
+            if (postings != null) {
+                for (int i = 0; i < postings.size; i++) {
+                    shared.merge(postings.ids[i], 1, Integer::sum);
+                }
+            }
+        }
+        shared.forEach((id, count) -> {
+            double similarity = (double) count / queryGrams.size();
+            if (similarity >= config.getFuzzyThreshold()) {
+                scores.merge(id, FUZZY * similarity, Math::max);
+            }
+        });
+    }
+
+    private boolean isCovered(String query) {
+        for (int length = query.length(); length > 0; length--) {
+            if (Boolean.TRUE.equals(fetchedQueries.get(query.substring(0, length)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(String key, SymbolSearchResultDTO result) {
+        int id = entries.size();
+        entries.add(result);
+        idsByKey.put(key, id);
+
+        String symbol = normalize(result.getSymbol());
+        symbols.add(symbol);
+        String name = normalize(result.getInstrumentName());
+        List<String> words = new ArrayList<>();
+        words.add(symbol);
+        if (!name.isEmpty()) {
+            words.add(name);
+            words.addAll(Arrays.asList(name.split("[^a-z0-9]+")));
+        }
+        words.stream().filter(word -> !word.isEmpty()).distinct()
+            .forEach(word -> tokens.computeIfAbsent(word, w -> new Postings()).add(id));
+
+        List<String> grams = new ArrayList<>(trigramsOf(symbol));
+        grams.addAll(trigramsOf(name));
+        grams.stream().distinct().forEach(gram -> trigrams.computeIfAbsent(gram, g -> new Postings()).add(id));
+    }
+
+    private static List<String> trigramsOf(String text) {
+        if (text.isEmpty()) {
+            return List.of();
+        }
+        String padded = " " + text + " ";
+        List<String> grams = new ArrayList<>(padded.length());
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams.stream().distinct().toList();
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Growable list of entry ids; tokens usually map to a handful of instruments.
+     */
+    private static final class Postings {
+        private int[] ids = new int[2];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+}
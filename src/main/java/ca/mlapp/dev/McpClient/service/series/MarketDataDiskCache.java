@@ -0,0 +1,245 @@
+package ca.mlapp.dev.McpClient.service.series;
+
+import ca.mlapp.dev.McpClient.config.McpDiskCacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Memory-mapped files holding quote snapshots and price series across restarts. Every file
+ * starts with a magic number and a layout version; files with an unknown layout are ignored
+ * and overwritten on the next write. Writes go to a temporary file that is atomically moved
+ * into place, so a crash never leaves a torn file behind.
+ *
+ * <pre>
+ * series/{SYMBOL}@{interval}.bin (little endian)
+ *   int magic 'MCPS' | int version | int flags (bit 0: date-only) | int count | long fetchedAtMillis
+ *   long[count] epochSecond | double[count] open | high | low | close | long[count] volume
+ *
+ * quotes/{SYMBOL}.bin (little endian)
+ *   int magic 'MCPQ' | int version | long fetchedAtMillis | int length | byte[length] UTF-8 JSON
+ * </pre>
+ */
+@Component
+@Slf4j
+public class MarketDataDiskCache {
+
+    static final int SERIES_MAGIC = 0x4D435053;
+    static final int QUOTE_MAGIC = 0x4D435051;
+    /**
+     * Version 1 series could hold gaps from merging fetches that didn't overlap
+     */
+    static final int SERIES_LAYOUT_VERSION = 2;
+    static final int QUOTE_LAYOUT_VERSION = 1;
+
+    private static final int SERIES_HEADER_BYTES = 4 * Integer.BYTES + Long.BYTES;
+    private static final int QUOTE_HEADER_BYTES = 2 * Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final String SEPARATOR = "@";
+
+    private final McpDiskCacheConfig config;
+    private final Path seriesDirectory;
+    private final Path quoteDirectory;
+
+    public MarketDataDiskCache(McpDiskCacheConfig config) {
+        this.config = config;
+        Path root = Path.of(config.getDirectory());
+        this.seriesDirectory = root.resolve("series");
+        this.quoteDirectory = root.resolve("quotes");
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    // ==================== Series ====================
+
+    public void writeSeries(String symbol, String interval, PriceSeries.Slice slice, long fetchedAtMillis) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        int n = slice.size();
+        long bytes = SERIES_HEADER_BYTES + (long) n * PriceSeries.BYTES_PER_BAR;
+        write(seriesDirectory.resolve(fileName(symbol) + SEPARATOR + fileName(interval) + ".bin"), bytes, buffer -> {
+            buffer.putInt(SERIES_MAGIC).putInt(SERIES_LAYOUT_VERSION).putInt(slice.dateOnly() ? 1 : 0).putInt(n)
+                .putLong(fetchedAtMillis);
+            buffer.asLongBuffer().put(slice.time());
+            buffer.position(buffer.position() + n * Long.BYTES);
+            for (double[] column : new double[][] {slice.open(), slice.high(), slice.low(), slice.close()}) {
+                buffer.asDoubleBuffer().put(column);
+                buffer.position(buffer.position() + n * Double.BYTES);
+            }
+            buffer.asLongBuffer().put(slice.volume());
+        });
+    }
+
+    /**
+     * Every readable series file; unreadable or outdated files are skipped.
+     */
+    public List<StoredSeries> readAllSeries() {
+        List<StoredSeries> stored = new ArrayList<>();
+        if (!config.isEnabled() || !Files.isDirectory(seriesDirectory)) {
+            return stored;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(seriesDirectory, "*.bin")) {
+            for (Path file : files) {
+                StoredSeries series = readSeries(file);
+                if (series != null) {
+                    stored.add(series);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not list cached series in {}: {}", seriesDirectory, e.getMessage());
+        }
+        return stored;
+    }
+
+    private StoredSeries readSeries(Path file) {
+        String name = file.getFileName().toString();
+        int separator = name.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.remaining() < SERIES_HEADER_BYTES || buffer.getInt() != SERIES_MAGIC
+                    || buffer.getInt() != SERIES_LAYOUT_VERSION) {
+                log.info("Ignoring cached series {} with an unknown layout", file);
+                return null;
+            }
+            boolean dateOnly = (buffer.getInt() & 1) != 0;
+            int n = buffer.getInt();
+            long fetchedAt = buffer.getLong();
+            if (n < 0 || buffer.remaining() < (long) n * PriceSeries.BYTES_PER_BAR) {
+                log.info("Ignoring truncated cached series {}", file);
+                return null;
+            }
+
+            long[] time = new long[n];
+            double[][] prices = new double[4][n];
+            long[] volume = new long[n];
+            buffer.asLongBuffer().get(time);
+            buffer.position(buffer.position() + n * Long.BYTES);
+            for (double[] column : prices) {
+                buffer.asDoubleBuffer().get(column);
+                buffer.position(buffer.position() + n * Double.BYTES);
+            }
+            buffer.asLongBuffer().get(volume);
+
+            PriceSeries.Slice slice = new PriceSeries.Slice(time, prices[0], prices[1], prices[2], prices[3],
+                                                            volume, dateOnly);
+            return new StoredSeries(name.substring(0, separator),
+                                    name.substring(separator + 1, name.length() - ".bin".length()), slice, fetchedAt);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read cached series {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    // ==================== Quotes ====================
+
+    public void writeQuote(String symbol, String json, long fetchedAtMillis) {
+        if (!config.isEnabled() || json == null) {
+            return;
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        write(quoteDirectory.resolve(fileName(symbol) + ".bin"), QUOTE_HEADER_BYTES + bytes.length, buffer ->
+            buffer.putInt(QUOTE_MAGIC).putInt(QUOTE_LAYOUT_VERSION).putLong(fetchedAtMillis)
+                .putInt(bytes.length).put(bytes)
+        );
+    }
+
+    public List<StoredQuote> readAllQuotes() {
+        List<StoredQuote> stored = new ArrayList<>();
+        if (!config.isEnabled() || !Files.isDirectory(quoteDirectory)) {
+            return stored;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(quoteDirectory, "*.bin")) {
+            for (Path file : files) {
+                StoredQuote quote = readQuote(file);
+                if (quote != null) {
+                    stored.add(quote);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not list cached quotes in {}: {}", quoteDirectory, e.getMessage());
+        }
+        return stored;
+    }
+
+    private StoredQuote readQuote(Path file) {
+        String name = file.getFileName().toString();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.remaining() < QUOTE_HEADER_BYTES || buffer.getInt() != QUOTE_MAGIC
+                    || buffer.getInt() != QUOTE_LAYOUT_VERSION) {
+                log.info("Ignoring cached quote {} with an unknown layout", file);
+                return null;
+            }
+            long fetchedAt = buffer.getLong();
+            int length = buffer.getInt();
+            if (length < 0 || buffer.remaining() < length) {
+                log.info("Ignoring truncated cached quote {}", file);
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new StoredQuote(name.substring(0, name.length() - ".bin".length()),
+                                   new String(bytes, StandardCharsets.UTF_8), fetchedAt);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read cached quote {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private synchronized void write(Path target, long bytes, Consumer<MappedByteBuffer> writer) {
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(target.getParent());
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                writer.accept(buffer);
+                buffer.force();
+            }
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write market data cache file {}: {}", target, e.getMessage());
+        }
+    }
+
+    /**
+     * Symbols and intervals are used as file names, so anything unusual is replaced.
+     */
+    private static String fileName(String value) {
+        return value.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    public record StoredSeries(String symbol, String interval, PriceSeries.Slice slice, long fetchedAtMillis) {
+    }
+
+    public record StoredQuote(String symbol, String json, long fetchedAtMillis) {
+    }
+}
@@ -0,0 +1,90 @@
+package ca.mlapp.dev.McpClient.service.series;
+
+import ca.mlapp.dev.McpClient.config.McpDiskCacheConfig;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+
+/**
+ * Staleness policy for market data. While the market is closed nothing changes, so anything
+ * fetched after the last close stays fresh until the next open. While it is open, quotes and
+ * daily bars age out after a configured time and intraday bars after one interval.
+ */
+@Component
+public class MarketHours {
+
+    private final McpDiskCacheConfig config;
+    private final ZoneId zone;
+    private final LocalTime open;
+    private final LocalTime close;
+
+    public MarketHours(McpDiskCacheConfig config) {
+        this.config = config;
+        this.zone = ZoneId.of(config.getMarketZone());
+        this.open = LocalTime.parse(config.getMarketOpen());
+        this.close = LocalTime.parse(config.getMarketClose());
+    }
+
+    public boolean isOpen(Instant now) {
+        ZonedDateTime local = now.atZone(zone);
+        LocalTime time = local.toLocalTime();
+        return isTradingDay(local.getDayOfWeek()) && !time.isBefore(open) && time.isBefore(close);
+    }
+
+    /**
+     * The most recent session close at or before {@code now}.
+     */
+    public Instant lastClose(Instant now) {
+        ZonedDateTime candidate = now.atZone(zone).with(close);
+        while (candidate.toInstant().isAfter(now) || !isTradingDay(candidate.getDayOfWeek())) {
+            candidate = candidate.minusDays(1);
+        }
+        return candidate.toInstant();
+    }
+
+    /**
+     * Whether a realtime quote fetched at {@code fetchedAt} can still be served.
+     */
+    public boolean isQuoteFresh(Instant fetchedAt, Instant now) {
+        return isFresh(fetchedAt, now, config.getQuoteTtlOpen());
+    }
+
+    /**
+     * Whether bars of this TwelveData interval fetched at {@code fetchedAt} can still be served.
+     */
+    public boolean isSeriesFresh(String interval, Instant fetchedAt, Instant now) {
+        return isFresh(fetchedAt, now, ttlWhileOpen(interval));
+    }
+
+    private boolean isFresh(Instant fetchedAt, Instant now, Duration ttlWhileOpen) {
+        if (isOpen(now)) {
+            return Duration.between(fetchedAt, now).compareTo(ttlWhileOpen) < 0;
+        }
+        return !fetchedAt.isBefore(lastClose(now));
+    }
+
+    private Duration ttlWhileOpen(String interval) {
+        String value = interval == null ? "" : interval.toLowerCase(Locale.ROOT);
+        try {
+            if (value.endsWith("min")) {
+                return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 3)));
+            }
+            if (value.endsWith("h")) {
+                return Duration.ofHours(Long.parseLong(value.substring(0, value.length() - 1)));
+            }
+        } catch (NumberFormatException e) {
+            // Unknown interval: treat like daily bars
+        }
+        return config.getDailyTtlOpen();
+    }
+
+    private static boolean isTradingDay(DayOfWeek day) {
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY;
+    }
+}
@@ -0,0 +1,141 @@
+package ca.mlapp.dev.McpClient.service.series;
+
+import ca.mlapp.dev.McpClient.dto.twelvedata.TimeSeriesResponseDTO;
+import ca.mlapp.dev.McpClient.service.mcp.CallKey;
+import ca.mlapp.dev.McpClient.service.mcp.McpTools;
+import ca.mlapp.dev.McpClient.service.mcp.ToolPayload;
+import ca.mlapp.dev.McpClient.service.mcp.ToolResultDecoder;
+import ca.mlapp.dev.McpClient.service.mcp.ToolResultEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Serves realtime quotes and price history from the persisted market data while the
+ * {@link MarketHours} policy considers it fresh, so a restart (or a quiet market) does not cost
+ * upstream credits for data that cannot have changed.
+ */
+@Component
+@Slf4j
+public class PersistedMarketData {
+
+    /**
+     * TwelveData's output size when none is given
+     */
+    private static final int DEFAULT_OUTPUT_SIZE = 30;
+
+    private final MarketDataDiskCache diskCache;
+    private final MarketHours marketHours;
+    private final PriceSeriesStore seriesStore;
+    private final ToolResultDecoder resultDecoder;
+    private final ObjectMapper objectMapper;
+    private final Executor workerExecutor;
+    private final Map<String, MarketDataDiskCache.StoredQuote> quotes = new ConcurrentHashMap<>();
+
+    public PersistedMarketData(MarketDataDiskCache diskCache, MarketHours marketHours, PriceSeriesStore seriesStore,
+                               ToolResultDecoder resultDecoder, ObjectMapper objectMapper,
+                               @Qualifier("mcpWorkerExecutor") Executor workerExecutor) {
+        this.diskCache = diskCache;
+        this.marketHours = marketHours;
+        this.seriesStore = seriesStore;
+        this.resultDecoder = resultDecoder;
+        this.objectMapper = objectMapper;
+        this.workerExecutor = workerExecutor;
+    }
+
+    @PostConstruct
+    void loadPersisted() {
+        for (MarketDataDiskCache.StoredQuote quote : diskCache.readAllQuotes()) {
+            quotes.put(quote.symbol(), quote);
+        }
+        if (!quotes.isEmpty()) {
+            log.info("Loaded {} persisted quote(s)", quotes.size());
+        }
+    }
+
+    /**
+     * A fresh persisted answer for the call, or null if it has to go upstream.
+     */
+    public ToolPayload lookup(String toolName, Map<String, Object> args) {
+        if (!diskCache.isEnabled()) {
+            return null;
+        }
+        String symbol = CallKey.symbolOf(args);
+        if (symbol == null) {
+            return null;
+        }
+        Instant now = Instant.now();
+
+        if (McpTools.FETCH_REALTIME_QUOTE.equals(toolName)) {
+            MarketDataDiskCache.StoredQuote quote = quotes.get(normalize(symbol));
+            if (quote != null && marketHours.isQuoteFresh(Instant.ofEpochMilli(quote.fetchedAtMillis()), now)) {
+                return resultDecoder.payload(toolName, quote.json());
+            }
+            return null;
+        }
+
+        if (McpTools.GET_HISTORICAL_DATA.equals(toolName)) {
+            Object interval = args.get("interval");
+            if (interval == null) {
+                return null;
+            }
+            PriceSeries held = seriesStore.get(symbol, interval.toString());
+            if (held == null || held.fetchedAtMillis() == 0
+                    || !marketHours.isSeriesFresh(interval.toString(), Instant.ofEpochMilli(held.fetchedAtMillis()), now)) {
+                return null;
+            }
+            // Held bars never have a gap, so the newest ones are what the tool would return now
+            TimeSeriesResponseDTO series = seriesStore.latest(symbol, interval.toString(), outputSize(args));
+            if (series == null) {
+                return null;
+            }
+            try {
+                return resultDecoder.payload(toolName, objectMapper.writeValueAsString(series));
+            } catch (JsonProcessingException e) {
+                log.debug("Could not serialize persisted series for {}: {}", symbol, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    @EventListener
+    public void onToolResult(ToolResultEvent event) {
+        if (!diskCache.isEnabled() || !McpTools.FETCH_REALTIME_QUOTE.equals(event.toolName())
+                || !event.payload().isJson()) {
+            return;
+        }
+        String symbol = CallKey.symbolOf(event.args());
+        if (symbol != null) {
+            MarketDataDiskCache.StoredQuote quote = new MarketDataDiskCache.StoredQuote(
+                normalize(symbol), event.payload().getText(), System.currentTimeMillis());
+            quotes.put(quote.symbol(), quote);
+            workerExecutor.execute(() -> diskCache.writeQuote(quote.symbol(), quote.json(), quote.fetchedAtMillis()));
+        }
+    }
+
+    private static int outputSize(Map<String, Object> args) {
+        Object value = args.get("outputSize");
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        try {
+            return value != null ? Integer.parseInt(value.toString()) : DEFAULT_OUTPUT_SIZE;
+        } catch (NumberFormatException e) {
+            return DEFAULT_OUTPUT_SIZE;
+        }
+    }
+
+    private static String normalize(String symbol) {
+        return symbol.trim().toUpperCase(Locale.ROOT);
+    }
+}
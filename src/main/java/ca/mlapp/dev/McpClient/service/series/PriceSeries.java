@@ -0,0 +1,336 @@
+package ca.mlapp.dev.McpClient.service.series;
+
+import ca.mlapp.dev.McpClient.dto.twelvedata.TimeSeriesValueDTO;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OHLCV bars for one symbol and interval, stored column by column as primitives: epoch-second
+ * timestamps, four price columns and volume, 48 bytes per bar. Columns live on the heap or,
+ * optionally, in direct buffers off the heap. Bars are kept in time order; merging newly
+ * fetched bars appends in place and only rebuilds when older history is backfilled.
+ * <p>
+ * The held bars never have a gap: only fetches that overlap them are merged, so any run of
+ * held bars is what get-historical-data would have returned for it.
+ */
+public final class PriceSeries {
+
+    static final int BYTES_PER_BAR = 6 * Long.BYTES;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final boolean offHeap;
+    private LongBuffer time;
+    private DoubleBuffer open;
+    private DoubleBuffer high;
+    private DoubleBuffer low;
+    private DoubleBuffer close;
+    private LongBuffer volume;
+    private int size;
+    private boolean dateOnly = true;
+    private volatile long fetchedAtMillis;
+
+    public PriceSeries(int initialCapacity, boolean offHeap) {
+        this.offHeap = offHeap;
+        allocate(Math.max(16, initialCapacity));
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Approximate bytes held by the columns.
+     */
+    public synchronized long footprintBytes() {
+        return (long) time.capacity() * BYTES_PER_BAR;
+    }
+
+    /**
+     * When the series was last refreshed from upstream, or 0 if never.
+     */
+    public long fetchedAtMillis() {
+        return fetchedAtMillis;
+    }
+
+    public void markFetched(long epochMillis) {
+        fetchedAtMillis = epochMillis;
+    }
+
+    public synchronized long firstTime() {
+        return size > 0 ? time.get(0) : Long.MIN_VALUE;
+    }
+
+    public synchronized long lastTime() {
+        return size > 0 ? time.get(size - 1) : Long.MIN_VALUE;
+    }
+
+    /**
+     * Merge bars as returned by TwelveData (newest first, string-typed). Bars newer than the
+     * last held one are appended, a bar at the last held timestamp revises it, and bars
+     * before the first held one are backfilled. Bars inside the held range are already known
+     * and skipped. Returns the number of bars added.
+     * <p>
+     * A fetch that doesn't overlap the held bars could leave a gap (after an outage, say), so a
+     * newer one replaces the held bars and an older one is ignored.
+     */
+    public synchronized int merge(List<TimeSeriesValueDTO> values) {
+        if (values == null || values.isEmpty()) {
+            return 0;
+        }
+        if (size > 0) {
+            long oldest = Long.MAX_VALUE;
+            long newest = Long.MIN_VALUE;
+            for (TimeSeriesValueDTO value : values) {
+                long epoch = parseTime(value.getDatetime());
+                if (epoch != Long.MIN_VALUE) {
+                    oldest = Math.min(oldest, epoch);
+                    newest = Math.max(newest, epoch);
+                }
+            }
+            if (newest == Long.MIN_VALUE || newest < time.get(0)) {
+                return 0;
+            }
+            if (oldest > time.get(size - 1)) {
+                size = 0;
+            }
+        }
+
+        int added = 0;
+        List<TimeSeriesValueDTO> older = new ArrayList<>();
+        for (int i = values.size() - 1; i >= 0; i--) {
+            TimeSeriesValueDTO value = values.get(i);
+            long epoch = parseTime(value.getDatetime());
+            if (epoch == Long.MIN_VALUE) {
+                continue;
+            }
+            if (size == 0 || epoch > time.get(size - 1)) {
+                if (!append(epoch, value)) {
+                    continue;
+                }
+                added++;
+            } else if (epoch == time.get(size - 1)) {
+                set(size - 1, epoch, value);
+            } else if (epoch < time.get(0)) {
+                older.add(value);
+            }
+        }
+        if (!older.isEmpty()) {
+            added += backfill(older);
+        }
+        return added;
+    }
+
+    /**
+     * Replace the held bars with a previously copied-out slice (oldest first).
+     */
+    public synchronized void load(Slice slice) {
+        int n = slice.size();
+        if (n > time.capacity()) {
+            allocate(n + (n >> 1));
+        }
+        time.put(0, slice.time());
+        open.put(0, slice.open());
+        high.put(0, slice.high());
+        low.put(0, slice.low());
+        close.put(0, slice.close());
+        volume.put(0, slice.volume());
+        size = n;
+        dateOnly = slice.dateOnly();
+    }
+
+    /**
+     * Index of the first bar at or after {@code epochSecond}.
+     */
+    public synchronized int lowerBound(long epochSecond) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (time.get(mid) < epochSecond) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Bars with {@code from <= time <= to}, copied out, oldest first.
+     */
+    public synchronized Slice range(long fromEpochSecond, long toEpochSecond) {
+        int from = lowerBound(fromEpochSecond);
+        int to = toEpochSecond == Long.MAX_VALUE ? size : lowerBound(toEpochSecond + 1);
+        return slice(from, Math.max(from, to));
+    }
+
+    /**
+     * The newest {@code count} bars, oldest first.
+     */
+    public synchronized Slice last(int count) {
+        return slice(Math.max(0, size - count), size);
+    }
+
+    private Slice slice(int from, int to) {
+        int n = to - from;
+        long[] t = new long[n];
+        double[] o = new double[n];
+        double[] h = new double[n];
+        double[] l = new double[n];
+        double[] c = new double[n];
+        long[] v = new long[n];
+        time.get(from, t);
+        open.get(from, o);
+        high.get(from, h);
+        low.get(from, l);
+        close.get(from, c);
+        volume.get(from, v);
+        return new Slice(t, o, h, l, c, v, dateOnly);
+    }
+
+    private boolean append(long epoch, TimeSeriesValueDTO value) {
+        if (size == time.capacity()) {
+            grow(size + (size >> 1));
+        }
+        if (!set(size, epoch, value)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    private boolean set(int index, long epoch, TimeSeriesValueDTO value) {
+        double o = parseDouble(value.getOpen());
+        double h = parseDouble(value.getHigh());
+        double l = parseDouble(value.getLow());
+        double c = parseDouble(value.getClose());
+        if (Double.isNaN(c)) {
+            return false;
+        }
+        time.put(index, epoch);
+        open.put(index, o);
+        high.put(index, h);
+        low.put(index, l);
+        close.put(index, c);
+        volume.put(index, parseLong(value.getVolume()));
+        return true;
+    }
+
+    /**
+     * Prepend bars older than everything held; {@code older} is ordered oldest first.
+     */
+    private int backfill(List<TimeSeriesValueDTO> older) {
+        LongBuffer t = time;
+        DoubleBuffer o = open;
+        DoubleBuffer h = high;
+        DoubleBuffer l = low;
+        DoubleBuffer c = close;
+        LongBuffer v = volume;
+        int held = size;
+
+        allocate(Math.max(16, older.size() + held + (held >> 1)));
+        size = 0;
+        int added = 0;
+        for (TimeSeriesValueDTO value : older) {
+            long epoch = parseTime(value.getDatetime());
+            if ((size == 0 || epoch > time.get(size - 1)) && append(epoch, value)) {
+                added++;
+            }
+        }
+        time.put(size, t, 0, held);
+        open.put(size, o, 0, held);
+        high.put(size, h, 0, held);
+        low.put(size, l, 0, held);
+        close.put(size, c, 0, held);
+        volume.put(size, v, 0, held);
+        size += held;
+        return added;
+    }
+
+    private void grow(int capacity) {
+        LongBuffer t = time;
+        DoubleBuffer o = open;
+        DoubleBuffer h = high;
+        DoubleBuffer l = low;
+        DoubleBuffer c = close;
+        LongBuffer v = volume;
+        allocate(capacity);
+        time.put(0, t, 0, size);
+        open.put(0, o, 0, size);
+        high.put(0, h, 0, size);
+        low.put(0, l, 0, size);
+        close.put(0, c, 0, size);
+        volume.put(0, v, 0, size);
+    }
+
+    private void allocate(int capacity) {
+        time = buffer(capacity).asLongBuffer();
+        open = buffer(capacity).asDoubleBuffer();
+        high = buffer(capacity).asDoubleBuffer();
+        low = buffer(capacity).asDoubleBuffer();
+        close = buffer(capacity).asDoubleBuffer();
+        volume = buffer(capacity).asLongBuffer();
+    }
+
+    private ByteBuffer buffer(int capacity) {
+        int bytes = capacity * Long.BYTES;
+        return (offHeap ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes)).order(ByteOrder.nativeOrder());
+    }
+
+    private long parseTime(String datetime) {
+        if (datetime == null) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            // TwelveData datetimes carry no zone; they are stored as if UTC and formatted back the same way
+            if (datetime.length() <= 10) {
+                return LocalDate.parse(datetime).toEpochDay() * 86_400L;
+            }
+            dateOnly = false;
+            return LocalDateTime.parse(datetime, DATE_TIME).toEpochSecond(ZoneOffset.UTC);
+        } catch (RuntimeException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static double parseDouble(String value) {
+        try {
+            return value != null ? Double.parseDouble(value) : Double.NaN;
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (NumberFormatException e) {
+            return (long) parseDouble(value);
+        }
+    }
+
+    /**
+     * A copied-out run of bars, oldest first.
+     */
+    public record Slice(long[] time, double[] open, double[] high, double[] low, double[] close, long[] volume,
+                        boolean dateOnly) {
+
+        public int size() {
+            return time.length;
+        }
+
+        public String datetime(int i) {
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(time[i], 0, ZoneOffset.UTC);
+            return dateOnly ? dateTime.toLocalDate().toString() : dateTime.format(DATE_TIME);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package ca.mlapp.dev.McpClient.service.series;
+
+import ca.mlapp.dev.McpClient.config.McpSeriesConfig;
+import ca.mlapp.dev.McpClient.dto.twelvedata.MetaDTO;
+import ca.mlapp.dev.McpClient.dto.twelvedata.TimeSeriesResponseDTO;
+import ca.mlapp.dev.McpClient.dto.twelvedata.TimeSeriesValueDTO;
+import ca.mlapp.dev.McpClient.service.mcp.CallKey;
+import ca.mlapp.dev.McpClient.service.mcp.McpTools;
+import ca.mlapp.dev.McpClient.service.mcp.ToolPayload;
+import ca.mlapp.dev.McpClient.service.mcp.ToolResultEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Columnar price history per symbol and interval, merged from every fresh get-historical-data
+ * result. Holds far more history than the tool result cache at a fraction of the memory.
+ * Merged series are written through to the {@link MarketDataDiskCache} and read back on
+ * startup, so history survives restarts.
+ */
+@Component
+@Slf4j
+public class PriceSeriesStore {
+
+    private final McpSeriesConfig config;
+    private final MarketDataDiskCache diskCache;
+    private final Executor workerExecutor;
+    private final LinkedHashMap<String, PriceSeries> series;
+
+    public PriceSeriesStore(McpSeriesConfig config, MarketDataDiskCache diskCache,
+                            @Qualifier("mcpWorkerExecutor") Executor workerExecutor) {
+        this.config = config;
+        this.diskCache = diskCache;
+        this.workerExecutor = workerExecutor;
+        this.series = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PriceSeries> eldest) {
+                return size() > config.getMaxSeries();
+            }
+        };
+    }
+
+    @PostConstruct
+    void loadPersisted() {
+        if (!config.isEnabled() || !diskCache.isEnabled()) {
+            return;
+        }
+        int loaded = 0;
+        for (MarketDataDiskCache.StoredSeries stored : diskCache.readAllSeries()) {
+            PriceSeries held = new PriceSeries(Math.max(config.getInitialCapacity(), stored.slice().size()),
+                                               config.isOffHeap());
+            held.load(stored.slice());
+            held.markFetched(stored.fetchedAtMillis());
+            synchronized (series) {
+                series.put(key(stored.symbol(), stored.interval()), held);
+            }
+            loaded++;
+        }
+        if (loaded > 0) {
+            log.info("Loaded {} persisted price series", loaded);
+        }
+    }
+
+    /**
+     * Decoding and merging a fresh result is handed to the worker executor: the event is
+     * published on the request thread, and a passthrough history response should not be
+     * decoded before the caller gets it.
+     */
+    @EventListener
+    public void onToolResult(ToolResultEvent event) {
+        if (!config.isEnabled() || !McpTools.GET_HISTORICAL_DATA.equals(event.toolName())) {
+            return;
+        }
+        String symbol = CallKey.symbolOf(event.args());
+        Object interval = event.args().get("interval");
+        if (symbol == null || interval == null) {
+            return;
+        }
+        long fetchedAt = System.currentTimeMillis();
+        workerExecutor.execute(() -> absorb(symbol, interval.toString(), event.payload(), fetchedAt));
+    }
+
+    private void absorb(String symbol, String interval, ToolPayload payload, long fetchedAt) {
+        try {
+            if (payload.value() instanceof TimeSeriesResponseDTO timeSeries) {
+                merge(symbol, interval, timeSeries.getValues());
+                PriceSeries held = get(symbol, interval);
+                if (held != null) {
+                    held.markFetched(fetchedAt);
+                    persist(symbol, interval, held);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not merge {} {} history: {}", symbol, interval, e.getMessage());
+        }
+    }
+
+    public int merge(String symbol, String interval, List<TimeSeriesValueDTO> values) {
+        PriceSeries target;
+        synchronized (series) {
+            target = series.computeIfAbsent(key(symbol, interval),
+                k -> new PriceSeries(config.getInitialCapacity(), config.isOffHeap()));
+        }
+        int added = target.merge(values);
+        log.debug("Merged {} new bar(s) into {} {} ({} held)", added, symbol, interval, target.size());
+        return added;
+    }
+
+    public PriceSeries get(String symbol, String interval) {
+        synchronized (series) {
+            return series.get(key(symbol, interval));
+        }
+    }
+
+    /**
+     * Held bars in {@code [fromEpochSecond, toEpochSecond]} in the get-historical-data response
+     * shape (newest first), or null if nothing is held for the series.
+     */
+    public TimeSeriesResponseDTO range(String symbol, String interval, long fromEpochSecond, long toEpochSecond) {
+        PriceSeries held = get(symbol, interval);
+        if (held == null) {
+            return null;
+        }
+        return toResponse(symbol, interval, held.range(fromEpochSecond, toEpochSecond));
+    }
+
+    /**
+     * The newest {@code count} held bars in the get-historical-data response shape, or null if
+     * fewer are held.
+     */
+    public TimeSeriesResponseDTO latest(String symbol, String interval, int count) {
+        PriceSeries held = get(symbol, interval);
+        if (held == null || held.size() < count) {
+            return null;
+        }
+        return toResponse(symbol, interval, held.last(count));
+    }
+
+    public Map<String, Object> stats() {
+        long bars = 0;
+        long bytes = 0;
+        int count;
+        synchronized (series) {
+            count = series.size();
+            for (PriceSeries held : series.values()) {
+                bars += held.size();
+                bytes += held.footprintBytes();
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("series", count);
+        stats.put("bars", bars);
+        stats.put("bytes", bytes);
+        stats.put("offHeap", config.isOffHeap());
+        return stats;
+    }
+
+    private void persist(String symbol, String interval, PriceSeries held) {
+        if (!diskCache.isEnabled()) {
+            return;
+        }
+        PriceSeries.Slice slice = held.last(held.size());
+        long fetchedAt = held.fetchedAtMillis();
+        String name = symbol.trim().toUpperCase(Locale.ROOT);
+        diskCache.writeSeries(name, interval, slice, fetchedAt);
+    }
+
+    private static TimeSeriesResponseDTO toResponse(String symbol, String interval, PriceSeries.Slice slice) {
+        List<TimeSeriesValueDTO> values = new ArrayList<>(slice.size());
+        for (int i = slice.size() - 1; i >= 0; i--) {
+            values.add(new TimeSeriesValueDTO(
+                slice.datetime(i),
+                Double.toString(slice.open()[i]),
+                Double.toString(slice.high()[i]),
+                Double.toString(slice.low()[i]),
+                Double.toString(slice.close()[i]),
+                Long.toString(slice.volume()[i])
+            ));
+        }
+        MetaDTO meta = new MetaDTO(symbol.toUpperCase(Locale.ROOT), interval, null, null, null);
+        return new TimeSeriesResponseDTO(meta, values, "ok");
+    }
+
+    private static String key(String symbol, String interval) {
+        return symbol.trim().toUpperCase(Locale.ROOT) + '|' + interval;
+    }
+}
@@ -48,6 +48,10 @@ class McpApiClient {
         return this.get(`/api/market/quote/${symbol}`);
     }
 
+    async getQuotes(symbols) {
+        return this.get(`/api/market/quotes?symbols=${encodeURIComponent(symbols.join(','))}`);
+    }
+
     async getHistoricalData(symbol, interval, outputSize) {
         let url = `/api/market/historical/${symbol}?interval=${interval}`;
         if (outputSize) url += `&outputSize=${outputSize}`;
@@ -93,6 +97,15 @@ class McpApiClient {
         return this.get(url);
     }
 
+    // ==================== Batch Endpoint ====================
+
+    // calls: [{ tool: 'fetch-realtime-quote', arguments: { symbol: 'AAPL' } }, ...]
+    async batch(calls, parallelism = null) {
+        const data = { calls };
+        if (parallelism) data.parallelism = parallelism;
+        return this.post('/api/batch', data);
+    }
+
     // ==================== Prompts Endpoints ====================
 
     async getStockAnalysisPrompt(symbol) {
@@ -182,6 +195,22 @@ class McpApiClient {
         return this.get('/api/metadata/health');
     }
 
+    // ==================== Aggregate Endpoints ====================
+
+    async getDashboard() {
+        return this.get('/api/dashboard');
+    }
+
+    async getSystemInfo() {
+        return this.get('/api/system-info');
+    }
+
+    // ==================== Streaming Endpoints ====================
+
+    streamDashboard() {
+        return new EventSource(this.baseUrl + '/api/stream/dashboard');
+    }
+
     // ==================== HTTP Helper Methods ====================
 
     async get(url) {
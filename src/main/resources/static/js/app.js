@@ -19,6 +19,7 @@ class McpClientApp {
         this.currentSymbol = null;
         this.priceChart = null;
         this.indicatorChart = null;
+        this.dashboardStream = null;
         this.init();
     }
 
@@ -31,9 +32,10 @@ class McpClientApp {
         // Setup navigation
         this.setupNavigation();
 
-        // Load initial data
+        // Load initial data, then keep the dashboard current from the server's event stream
         this.loadDashboard();
         this.loadSystemInfo();
+        this.connectDashboardStream();
     }
 
     // ==================== Navigation ====================
@@ -96,14 +98,15 @@ class McpClientApp {
 
     async loadDashboard() {
         try {
-            const [stocks, value, usage, health] = await Promise.all([
-                apiClient.getAllStocks().catch(() => []),
-                apiClient.getPortfolioValue().catch(() => ({ totalValue: 0 })),
-                apiClient.getApiUsage().catch(() => ({ requestsToday: 0, dailyLimit: 800 })),
-                apiClient.checkHealth().catch(() => ({ status: 'DOWN' }))
-            ]);
-
-            this.updateDashboard(stocks, value, usage, health);
+            // One request; the server fetches the parts in parallel and falls back per part
+            const dashboard = await apiClient.getDashboard();
+
+            this.updateDashboard(
+                dashboard.stocks || [],
+                dashboard.value || { totalValue: 0 },
+                dashboard.apiUsage || { requestsToday: 0, dailyLimit: 800 },
+                dashboard.health || { status: 'DOWN' }
+            );
         } catch (error) {
             console.error('Error loading dashboard:', error);
             this.showToast('Error loading dashboard: ' + error.message, 'error');
@@ -129,6 +132,58 @@ class McpClientApp {
         document.getElementById('health-status').textContent = healthStatus;
     }
 
+    connectDashboardStream() {
+        if (typeof EventSource === 'undefined') {
+            return;
+        }
+        // EventSource reconnects on its own after errors or when the server ends the stream
+        this.dashboardStream = apiClient.streamDashboard();
+        const on = (event, handler) => this.dashboardStream.addEventListener(event, e => {
+            try {
+                handler(JSON.parse(e.data));
+            } catch (error) {
+                console.error(`Error handling ${event} event:`, error);
+            }
+        });
+
+        on('portfolio', stocks => {
+            const stocksArray = Array.isArray(stocks) ? stocks : [];
+            document.getElementById('stocks-count').textContent = stocksArray.length;
+            if (this.currentSection === 'portfolio') {
+                this.currentStocks = stocksArray;
+                this.renderPortfolioTable();
+            }
+        });
+        on('portfolio-value', value => {
+            const totalValue = value.totalValue || 0;
+            document.getElementById('total-value').textContent = `$${totalValue.toFixed(2)}`;
+        });
+        on('api-usage', usage => {
+            const requestsToday = usage.requestsToday || 0;
+            const dailyLimit = usage.dailyLimit || 800;
+            document.getElementById('api-usage').textContent = `${requestsToday}/${dailyLimit}`;
+        });
+        on('health', health => {
+            document.getElementById('health-status').textContent = health.status === 'UP' ? 'Connected' : 'Disconnected';
+        });
+        on('quotes', quotes => {
+            // Show live prices in the portfolio table without writing them to the portfolio
+            let changed = false;
+            this.currentStocks.forEach(stock => {
+                const quote = quotes[stock.symbol];
+                const price = quote ? parseFloat(quote.close) : NaN;
+                if (!isNaN(price)) {
+                    stock.currentPrice = price;
+                    stock.totalValue = price * (stock.shares || 0);
+                    changed = true;
+                }
+            });
+            if (changed && this.currentSection === 'portfolio') {
+                this.renderPortfolioTable();
+            }
+        });
+    }
+
     async refreshDashboard() {
         await this.loadDashboard();
         this.showToast('Dashboard refreshed successfully', 'success');
@@ -282,14 +337,20 @@ class McpClientApp {
     async loadStockDetails(symbol) {
         try {
             this.currentSymbol = symbol;
-            const quote = await apiClient.getQuote(symbol);
-            this.renderQuoteDetails(quote);
+
+            // Quote and historical data (1day interval by default) in one round-trip
+            const [quoteItem, historicalItem] = await apiClient.batch([
+                { tool: 'fetch-realtime-quote', arguments: { symbol } },
+                { tool: 'get-historical-data', arguments: { symbol, interval: '1day', outputSize: 30 } }
+            ]);
+            if (quoteItem.status !== 'ok') {
+                throw new Error(quoteItem.error);
+            }
+            this.renderQuoteDetails(quoteItem.result);
             document.getElementById('stock-details').style.display = 'block';
 
             // Load historical data for chart
-            // Note: Using 1day interval by default
-            const historical = await apiClient.getHistoricalData(symbol, '1day', 30);
-            this.renderPriceChart(historical);
+            this.renderPriceChart(historicalItem.status === 'ok' ? historicalItem.result : null);
 
             // Show technical indicators panel
             document.getElementById('indicators-panel').style.display = 'block';
@@ -725,17 +786,12 @@ class McpClientApp {
 
     async loadSystemInfo() {
         try {
-            const [tools, prompts, resources, health] = await Promise.all([
-                apiClient.listTools(),
-                apiClient.listPrompts(),
-                apiClient.listResources(),
-                apiClient.checkHealth()
-            ]);
+            const info = await apiClient.getSystemInfo();
 
-            this.renderHealthStatus(health);
-            this.renderToolsTable(tools);
-            this.renderPromptsTable(prompts);
-            this.renderResourcesTable(resources);
+            this.renderHealthStatus(info.health);
+            this.renderToolsTable(info.tools || []);
+            this.renderPromptsTable(info.prompts || []);
+            this.renderResourcesTable(info.resources || []);
         } catch (error) {
             console.error('Error loading system info:', error);
             this.showToast('Error loading system info: ' + error.message, 'error');
@@ -0,0 +1,98 @@
+package ca.mlapp.dev.McpClient.benchmark;
+
+import ca.mlapp.dev.McpClient.service.indicator.StreamingIndicator;
+import ca.mlapp.dev.McpClient.service.indicator.TechnicalIndicators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of taking one new bar into SMA, EMA, RSI, MACD and Bollinger Bands: a full recompute
+ * over the window versus one step of the streaming state.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=ca.mlapp.dev.McpClient.benchmark.IndicatorUpdateBenchmark}, or from the IDE.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndicatorUpdateBenchmark {
+
+    @Param({"300", "5000"})
+    private int window;
+
+    private double[] closes;
+    private StreamingIndicator[] streaming;
+    private double[] out;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        closes = new double[window];
+        double price = 100;
+        for (int i = 0; i < window; i++) {
+            price *= 1 + random.nextGaussian() * 0.01;
+            closes[i] = price;
+        }
+
+        streaming = new StreamingIndicator[] {
+            StreamingIndicator.sma(20),
+            StreamingIndicator.ema(20),
+            StreamingIndicator.rsi(14),
+            StreamingIndicator.macd(12, 26, 9),
+            StreamingIndicator.bollingerBands(20, 2.0)
+        };
+        out = new double[3];
+        for (double close : closes) {
+            for (StreamingIndicator indicator : streaming) {
+                indicator.append(close, out);
+            }
+        }
+    }
+
+    @Benchmark
+    public double fullRecompute() {
+        closes[closes.length - 1] = closes[next++ % closes.length];
+        double sink = TechnicalIndicators.sma(closes, 20)[window - 1];
+        sink += TechnicalIndicators.ema(closes, 20)[window - 1];
+        sink += TechnicalIndicators.rsi(closes, 14)[window - 1];
+        sink += TechnicalIndicators.macd(closes, 12, 26, 9)[0][window - 1];
+        sink += TechnicalIndicators.bollingerBands(closes, 20, 2.0)[0][window - 1];
+        return sink;
+    }
+
+    @Benchmark
+    public double incrementalAppend() {
+        double close = closes[next++ % closes.length];
+        double sink = 0;
+        for (StreamingIndicator indicator : streaming) {
+            indicator.append(close, out);
+            sink += out[0];
+        }
+        return sink;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(IndicatorUpdateBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,112 @@
+package ca.mlapp.dev.McpClient.service.indicator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that every {@link StreamingIndicator} agrees with the full recompute in
+ * {@link TechnicalIndicators} at every bar of random series, including the warm-up bars, and
+ * that peeking a bar gives exactly what appending it then does.
+ */
+class StreamingIndicatorTest {
+
+    private static final int SERIES = 25;
+    private static final int LENGTH = 2000;
+    private static final int[] PERIODS = {1, 2, 5, 14, 20};
+    // Relative; a near-flat window leaves only rounding under the band's square root, which
+    // magnifies it to around 1e-9 of the price
+    private static final double TOLERANCE = 1e-8;
+
+    @Test
+    void smaMatchesRecompute() {
+        for (int period : PERIODS) {
+            check("sma(" + period + ")", () -> StreamingIndicator.sma(period),
+                  closes -> new double[][] {TechnicalIndicators.sma(closes, period)});
+        }
+    }
+
+    @Test
+    void emaMatchesRecompute() {
+        for (int period : PERIODS) {
+            check("ema(" + period + ")", () -> StreamingIndicator.ema(period),
+                  closes -> new double[][] {TechnicalIndicators.ema(closes, period)});
+        }
+    }
+
+    @Test
+    void rsiMatchesRecompute() {
+        for (int period : PERIODS) {
+            check("rsi(" + period + ")", () -> StreamingIndicator.rsi(period),
+                  closes -> new double[][] {TechnicalIndicators.rsi(closes, period)});
+        }
+    }
+
+    @Test
+    void macdMatchesRecompute() {
+        check("macd(12,26,9)", () -> StreamingIndicator.macd(12, 26, 9),
+              closes -> TechnicalIndicators.macd(closes, 12, 26, 9));
+        check("macd(3,5,2)", () -> StreamingIndicator.macd(3, 5, 2),
+              closes -> TechnicalIndicators.macd(closes, 3, 5, 2));
+    }
+
+    @Test
+    void bollingerBandsMatchRecompute() {
+        for (int period : PERIODS) {
+            check("bbands(" + period + ")", () -> StreamingIndicator.bollingerBands(period, 2.0),
+                  closes -> TechnicalIndicators.bollingerBands(closes, period, 2.0));
+        }
+    }
+
+    /**
+     * Streams each series through a new indicator, peeking every bar before appending it, and
+     * compares both against the recompute over the whole series.
+     */
+    private static void check(String name, Supplier<StreamingIndicator> factory,
+                              Function<double[], double[][]> recompute) {
+        for (int seed = 0; seed < SERIES; seed++) {
+            double[] closes = series(seed);
+            double[][] expected = recompute.apply(closes);
+            StreamingIndicator indicator = factory.get();
+            double[] peeked = new double[indicator.width()];
+            double[] appended = new double[indicator.width()];
+
+            for (int i = 0; i < closes.length; i++) {
+                indicator.peek(closes[i], peeked);
+                indicator.append(closes[i], appended);
+                for (int k = 0; k < indicator.width(); k++) {
+                    String at = name + " seed " + seed + " bar " + i + " output " + k;
+                    assertClose(expected[k][i], appended[k], at + " (append)");
+                    assertEquals(appended[k], peeked[k], 0.0, at + " (peek)");
+                }
+            }
+        }
+    }
+
+    private static double[] series(int seed) {
+        Random random = new Random(seed);
+        double[] closes = new double[LENGTH];
+        double price = 50 + random.nextDouble() * 100;
+        for (int i = 0; i < closes.length; i++) {
+            // Occasional flat bars exercise the zero-change and zero-loss RSI cases
+            if (random.nextInt(10) > 0) {
+                price *= 1 + random.nextGaussian() * 0.02;
+            }
+            closes[i] = price;
+        }
+        return closes;
+    }
+
+    private static void assertClose(double expected, double actual, String message) {
+        if (Double.isNaN(expected)) {
+            assertTrue(Double.isNaN(actual), message + ": expected NaN but was " + actual);
+            return;
+        }
+        assertEquals(expected, actual, TOLERANCE * Math.max(1, Math.abs(expected)), message);
+    }
+}
@@ -0,0 +1,159 @@
+package ca.mlapp.dev.McpClient.service.indicator;
+
+import java.util.Arrays;
+
+/**
+ * Reference technical indicators over primitive price arrays ordered oldest first, recomputed
+ * in full on every call. Every result has the same length as its input, with {@code NaN} for
+ * the warm-up points that have no value yet. Seeding and smoothing follow the TA-Lib
+ * conventions TwelveData uses. {@link StreamingIndicator} is checked against these and
+ * benchmarked against them.
+ */
+public final class TechnicalIndicators {
+
+    private TechnicalIndicators() {
+    }
+
+    public static double[] sma(double[] values, int period) {
+        double[] out = nanArray(values.length);
+        int start = firstValid(values);
+        if (period < 1 || values.length - start < period) {
+            return out;
+        }
+        double sum = 0;
+        for (int i = start; i < values.length; i++) {
+            sum += values[i];
+            if (i - start >= period) {
+                sum -= values[i - period];
+            }
+            if (i - start >= period - 1) {
+                out[i] = sum / period;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Exponential moving average seeded with the simple average of its first period.
+     */
+    public static double[] ema(double[] values, int period) {
+        double[] out = nanArray(values.length);
+        int start = firstValid(values);
+        if (period < 1 || values.length - start < period) {
+            return out;
+        }
+        double k = 2.0 / (period + 1);
+        double seed = 0;
+        for (int i = start; i < start + period; i++) {
+            seed += values[i];
+        }
+        double ema = seed / period;
+        out[start + period - 1] = ema;
+        for (int i = start + period; i < values.length; i++) {
+            ema += k * (values[i] - ema);
+            out[i] = ema;
+        }
+        return out;
+    }
+
+    /**
+     * Relative strength index with Wilder smoothing.
+     */
+    public static double[] rsi(double[] values, int period) {
+        double[] out = nanArray(values.length);
+        if (period < 1 || values.length <= period) {
+            return out;
+        }
+        double gain = 0;
+        double loss = 0;
+        for (int i = 1; i <= period; i++) {
+            double change = values[i] - values[i - 1];
+            if (change > 0) {
+                gain += change;
+            } else {
+                loss -= change;
+            }
+        }
+        double avgGain = gain / period;
+        double avgLoss = loss / period;
+        out[period] = rsi(avgGain, avgLoss);
+        for (int i = period + 1; i < values.length; i++) {
+            double change = values[i] - values[i - 1];
+            avgGain = (avgGain * (period - 1) + Math.max(change, 0)) / period;
+            avgLoss = (avgLoss * (period - 1) + Math.max(-change, 0)) / period;
+            out[i] = rsi(avgGain, avgLoss);
+        }
+        return out;
+    }
+
+    /**
+     * MACD line, signal line and histogram, in that order.
+     */
+    public static double[][] macd(double[] values, int fastPeriod, int slowPeriod, int signalPeriod) {
+        double[] fast = ema(values, fastPeriod);
+        double[] slow = ema(values, slowPeriod);
+        double[] macd = nanArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            macd[i] = fast[i] - slow[i];
+        }
+        double[] signal = ema(macd, signalPeriod);
+        double[] histogram = nanArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            histogram[i] = macd[i] - signal[i];
+        }
+        return new double[][] {macd, signal, histogram};
+    }
+
+    /**
+     * Upper, middle and lower Bollinger Band, using the population standard deviation.
+     */
+    public static double[][] bollingerBands(double[] values, int period, double deviations) {
+        double[] upper = nanArray(values.length);
+        double[] middle = nanArray(values.length);
+        double[] lower = nanArray(values.length);
+        if (period < 1 || values.length < period) {
+            return new double[][] {upper, middle, lower};
+        }
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+            if (i >= period) {
+                sum -= values[i - period];
+            }
+            if (i >= period - 1) {
+                double mean = sum / period;
+                // Two passes over the window: a running sum of squares cancels badly on flat prices
+                double squaredDeviations = 0;
+                for (int j = i - period + 1; j <= i; j++) {
+                    squaredDeviations += (values[j] - mean) * (values[j] - mean);
+                }
+                double stdDev = Math.sqrt(squaredDeviations / period);
+                middle[i] = mean;
+                upper[i] = mean + deviations * stdDev;
+                lower[i] = mean - deviations * stdDev;
+            }
+        }
+        return new double[][] {upper, middle, lower};
+    }
+
+    private static double rsi(double avgGain, double avgLoss) {
+        if (avgLoss == 0) {
+            return avgGain == 0 ? 50 : 100;
+        }
+        return 100 - 100 / (1 + avgGain / avgLoss);
+    }
+
+    private static int firstValid(double[] values) {
+        int i = 0;
+        while (i < values.length && Double.isNaN(values[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static double[] nanArray(int length) {
+        double[] out = new double[length];
+        Arrays.fill(out, Double.NaN);
+        return out;
+    }
+}
@@ -0,0 +1,88 @@
+package ca.mlapp.dev.McpClient.service.search;
+
+import ca.mlapp.dev.McpClient.config.McpSearchConfig;
+import ca.mlapp.dev.McpClient.dto.twelvedata.SymbolSearchResultDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * When the index may answer a symbol search on its own, and when it must send it upstream.
+ */
+class SymbolIndexTest {
+
+    private static final List<SymbolSearchResultDTO> MICRO = List.of(
+        instrument("MSFT", "Microsoft Corporation"),
+        instrument("MU", "Micron Technology Inc"),
+        instrument("MCHP", "Microchip Technology Inc")
+    );
+
+    @Test
+    void cappedResultDoesNotCoverLongerQueries() {
+        SymbolIndex index = new SymbolIndex(config(3, 5));
+        // As many results as the tool returns at most: MSTR may simply have been cut off
+        index.learn("micro", MICRO);
+
+        assertNull(index.lookup("microstrategy"));
+        assertNull(index.lookup("micron"));
+    }
+
+    @Test
+    void completeResultCoversLongerQueries() {
+        SymbolIndex index = new SymbolIndex(config(30, 5));
+        index.learn("micro", MICRO);
+
+        List<SymbolSearchResultDTO> micron = index.lookup("micron");
+        assertNotNull(micron);
+        assertEquals("MU", micron.get(0).getSymbol());
+        // Nothing upstream starts with it, so an empty answer is the right one
+        assertEquals(List.of(), index.lookup("microstrategy"));
+    }
+
+    @Test
+    void fuzzyMatchesDoNotCountTowardMinLocalResults() {
+        SymbolIndex index = new SymbolIndex(config(30, 2));
+        index.learn("tech", List.of(
+            instrument("MSFT", "Microsoft Corporation"),
+            instrument("ASFT", "Aerosoft Systems"),
+            instrument("BSFT", "Bluesoft Labs")
+        ));
+
+        // All three contain "soft" mid-word, but none starts with it
+        assertNull(index.lookup("soft"));
+    }
+
+    @Test
+    void prefixMatchesCountTowardMinLocalResults() {
+        SymbolIndex index = new SymbolIndex(config(30, 2));
+        index.learn("tech", List.of(
+            instrument("MSFT", "Microsoft Corporation"),
+            instrument("MU", "Micron Technology Inc"),
+            instrument("AAPL", "Apple Inc")
+        ));
+
+        List<SymbolSearchResultDTO> matches = index.lookup("mic");
+        assertNotNull(matches);
+        assertEquals(2, matches.size());
+    }
+
+    private static McpSearchConfig config(int upstreamLimit, int minLocalResults) {
+        McpSearchConfig config = new McpSearchConfig();
+        config.setUpstreamLimit(upstreamLimit);
+        config.setMinLocalResults(minLocalResults);
+        return config;
+    }
+
+    private static SymbolSearchResultDTO instrument(String symbol, String name) {
+        SymbolSearchResultDTO result = new SymbolSearchResultDTO();
+        result.setSymbol(symbol);
+        result.setInstrumentName(name);
+        result.setExchange("NASDAQ");
+        result.setMicCode("XNGS");
+        return result;
+    }
+}
@@ -0,0 +1,147 @@
+package ca.mlapp.dev.McpClient.service.series;
+
+import ca.mlapp.dev.McpClient.dto.twelvedata.TimeSeriesValueDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Merging TwelveData bars (newest first) into the columnar series: appending newer bars,
+ * revising the last one and backfilling older history, on and off the heap, without ever
+ * leaving a gap.
+ */
+class PriceSeriesTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void appendsNewerBars() {
+        for (boolean offHeap : new boolean[] {false, true}) {
+            PriceSeries series = new PriceSeries(2, offHeap);
+            assertEquals(3, series.merge(bars(0, 3)));
+            // Overlaps the held tail: day 2 revises in place, days 3 and 4 are new
+            assertEquals(2, series.merge(bars(2, 5)));
+
+            PriceSeries.Slice held = series.last(series.size());
+            assertEquals(5, held.size());
+            assertArrayEquals(closes(0, 5), held.close());
+            assertEquals("2024-01-01", held.datetime(0));
+            assertEquals("2024-01-05", held.datetime(4));
+        }
+    }
+
+    @Test
+    void revisesTheLastBar() {
+        PriceSeries series = new PriceSeries(16, false);
+        series.merge(bars(0, 3));
+
+        TimeSeriesValueDTO revised = bar(2);
+        revised.setClose("99.5");
+        revised.setVolume("7");
+        assertEquals(0, series.merge(List.of(revised)));
+
+        PriceSeries.Slice held = series.last(series.size());
+        assertEquals(3, held.size());
+        assertEquals(99.5, held.close()[2]);
+        assertEquals(7L, held.volume()[2]);
+        assertEquals(close(1), held.close()[1]);
+    }
+
+    @Test
+    void backfillsOlderBars() {
+        for (boolean offHeap : new boolean[] {false, true}) {
+            PriceSeries series = new PriceSeries(16, offHeap);
+            series.merge(bars(10, 15));
+            // Days 5-9 are older than everything held; 10-11 are already known and skipped
+            assertEquals(5, series.merge(bars(5, 12)));
+
+            PriceSeries.Slice held = series.last(series.size());
+            assertEquals(10, held.size());
+            assertArrayEquals(closes(5, 15), held.close());
+            assertEquals(START.plusDays(5).toEpochDay() * 86_400L, series.firstTime());
+            assertEquals(START.plusDays(14).toEpochDay() * 86_400L, series.lastTime());
+        }
+    }
+
+    @Test
+    void replacesHeldBarsWhenANewerFetchLeavesAGap() {
+        PriceSeries series = new PriceSeries(16, false);
+        series.merge(bars(0, 10));
+        // Days 10-19 were never fetched, e.g. after an outage
+        assertEquals(5, series.merge(bars(20, 25)));
+
+        PriceSeries.Slice held = series.last(series.size());
+        assertEquals(5, held.size());
+        assertArrayEquals(closes(20, 25), held.close());
+    }
+
+    @Test
+    void ignoresOlderBarsThatLeaveAGap() {
+        PriceSeries series = new PriceSeries(16, false);
+        series.merge(bars(20, 25));
+        assertEquals(0, series.merge(bars(0, 10)));
+
+        assertArrayEquals(closes(20, 25), series.last(series.size()).close());
+    }
+
+    @Test
+    void skipsUnparseableBars() {
+        PriceSeries series = new PriceSeries(16, false);
+        List<TimeSeriesValueDTO> values = bars(0, 3);
+        values.get(0).setClose("n/a");
+        values.get(1).setDatetime("yesterday");
+
+        assertEquals(1, series.merge(values));
+        assertEquals(1, series.size());
+        assertEquals(close(0), series.last(1).close()[0]);
+    }
+
+    @Test
+    void keepsIntradayTimestamps() {
+        PriceSeries series = new PriceSeries(16, false);
+        series.merge(List.of(
+            new TimeSeriesValueDTO("2024-01-02 09:31:00", "1", "2", "0.5", "1.5", "100"),
+            new TimeSeriesValueDTO("2024-01-02 09:30:00", "1", "2", "0.5", "1.25", "100")
+        ));
+
+        PriceSeries.Slice held = series.last(2);
+        assertEquals("2024-01-02 09:30:00", held.datetime(0));
+        assertEquals("2024-01-02 09:31:00", held.datetime(1));
+    }
+
+    /**
+     * Daily bars for days {@code [from, to)} after {@link #START}, newest first as TwelveData
+     * returns them.
+     */
+    private static List<TimeSeriesValueDTO> bars(int from, int to) {
+        List<TimeSeriesValueDTO> values = new ArrayList<>();
+        for (int day = to - 1; day >= from; day--) {
+            values.add(bar(day));
+        }
+        return values;
+    }
+
+    private static TimeSeriesValueDTO bar(int day) {
+        double close = close(day);
+        return new TimeSeriesValueDTO(START.plusDays(day).toString(), Double.toString(close - 1),
+                                      Double.toString(close + 2), Double.toString(close - 2),
+                                      Double.toString(close), Long.toString(1000L + day));
+    }
+
+    private static double[] closes(int from, int to) {
+        double[] closes = new double[to - from];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = close(from + i);
+        }
+        return closes;
+    }
+
+    private static double close(int day) {
+        return 100 + day * 0.25;
+    }
+}